@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026, Brightspot.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package gyro.aws;
+
+import java.util.Map;
+
+import com.google.common.collect.MapMaker;
+import software.amazon.awssdk.services.sts.StsClient;
+import software.amazon.awssdk.services.sts.model.GetCallerIdentityResponse;
+
+/**
+ * The account, caller ARN and partition that a set of credentials resolves to, looked up with a single
+ * {@code GetCallerIdentity} per credentials per run. See {@link AwsCredentials#identity()}.
+ */
+public final class AwsAccountIdentity {
+
+    private static final String DEFAULT_PARTITION = "aws";
+
+    private static final Map<AwsCredentials, AwsAccountIdentity> identities = new MapMaker().weakKeys().makeMap();
+
+    private final String account;
+    private final String arn;
+    private final String userId;
+    private final String partition;
+
+    private AwsAccountIdentity(GetCallerIdentityResponse response) {
+        this.account = response.account();
+        this.arn = response.arn();
+        this.userId = response.userId();
+        this.partition = partition(response.arn());
+    }
+
+    static AwsAccountIdentity of(AwsCredentials credentials) {
+        AwsAccountIdentity identity = identities.get(credentials);
+
+        if (identity == null) {
+            identity = identities.computeIfAbsent(
+                credentials,
+                c -> new AwsAccountIdentity(AwsResource.createClient(StsClient.class, c).getCallerIdentity()));
+        }
+
+        return identity;
+    }
+
+    /**
+     * The 12 digit account ID.
+     */
+    public String getAccount() {
+        return account;
+    }
+
+    /**
+     * The ARN of the user or role the credentials belong to.
+     */
+    public String getArn() {
+        return arn;
+    }
+
+    /**
+     * The unique ID of the user or role the credentials belong to.
+     */
+    public String getUserId() {
+        return userId;
+    }
+
+    /**
+     * The partition of the account, such as {@code aws}, {@code aws-cn} or {@code aws-us-gov}.
+     */
+    public String getPartition() {
+        return partition;
+    }
+
+    private static String partition(String arn) {
+        String[] parts = arn != null ? arn.split(":", 3) : new String[0];
+
+        return parts.length > 1 && !parts[1].isEmpty() ? parts[1] : DEFAULT_PARTITION;
+    }
+}
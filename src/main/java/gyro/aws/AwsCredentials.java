@@ -16,6 +16,9 @@
 
 package gyro.aws;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import gyro.core.auth.Credentials;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProviderChain;
@@ -27,6 +30,17 @@ public class AwsCredentials extends Credentials {
     private String profileName;
     private String region;
     private AwsCredentialsProvider provider;
+    private Integer maxConnections;
+    private Integer connectionTimeToLive;
+    private Integer connectionMaxIdleTime;
+    private Boolean useIdleConnectionReaper;
+    private Boolean tcpKeepAlive;
+    private Integer socketTimeout;
+    private Integer connectionTimeout;
+    private Map<String, Integer> rateLimits;
+    private Integer defaultRateLimit;
+    private Map<String, Integer> rateLimitBursts;
+    private Integer finderParallelism;
 
     public AwsCredentials() {
         this.provider = AwsCredentialsProviderChain.builder()
@@ -66,10 +80,162 @@ public class AwsCredentials extends Credentials {
         this.region = region;
     }
 
+    /**
+     * The maximum number of open HTTP connections shared by all the service clients using these credentials. Defaults to ``200``.
+     */
+    public Integer getMaxConnections() {
+        if (maxConnections == null) {
+            maxConnections = 200;
+        }
+
+        return maxConnections;
+    }
+
+    public void setMaxConnections(Integer maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    /**
+     * The maximum time in seconds a pooled HTTP connection is kept open before it's closed, regardless of activity.
+     */
+    public Integer getConnectionTimeToLive() {
+        return connectionTimeToLive;
+    }
+
+    public void setConnectionTimeToLive(Integer connectionTimeToLive) {
+        this.connectionTimeToLive = connectionTimeToLive;
+    }
+
+    /**
+     * The maximum time in seconds a pooled HTTP connection can stay idle before it's closed.
+     */
+    public Integer getConnectionMaxIdleTime() {
+        return connectionMaxIdleTime;
+    }
+
+    public void setConnectionMaxIdleTime(Integer connectionMaxIdleTime) {
+        this.connectionMaxIdleTime = connectionMaxIdleTime;
+    }
+
+    /**
+     * When set to ``true`` idle HTTP connections are reaped in the background.
+     */
+    public Boolean getUseIdleConnectionReaper() {
+        return useIdleConnectionReaper;
+    }
+
+    public void setUseIdleConnectionReaper(Boolean useIdleConnectionReaper) {
+        this.useIdleConnectionReaper = useIdleConnectionReaper;
+    }
+
+    /**
+     * When set to ``true`` TCP keep-alive is enabled on the HTTP connections. Defaults to ``true``.
+     */
+    public Boolean getTcpKeepAlive() {
+        if (tcpKeepAlive == null) {
+            tcpKeepAlive = true;
+        }
+
+        return tcpKeepAlive;
+    }
+
+    public void setTcpKeepAlive(Boolean tcpKeepAlive) {
+        this.tcpKeepAlive = tcpKeepAlive;
+    }
+
+    /**
+     * The time in seconds to wait for data to be transferred over an open HTTP connection.
+     */
+    public Integer getSocketTimeout() {
+        return socketTimeout;
+    }
+
+    public void setSocketTimeout(Integer socketTimeout) {
+        this.socketTimeout = socketTimeout;
+    }
+
+    /**
+     * The time in seconds to wait when opening an HTTP connection.
+     */
+    public Integer getConnectionTimeout() {
+        return connectionTimeout;
+    }
+
+    public void setConnectionTimeout(Integer connectionTimeout) {
+        this.connectionTimeout = connectionTimeout;
+    }
+
+    /**
+     * The maximum number of requests per second sent to each service, keyed by the service name such as ``ec2`` or
+     * ``route53``, shared by every resource in the run. Set a service to ``0`` to disable its limit. Unlimited if not
+     * set.
+     */
+    public Map<String, Integer> getRateLimits() {
+        if (rateLimits == null) {
+            rateLimits = new HashMap<>();
+        }
+
+        return rateLimits;
+    }
+
+    public void setRateLimits(Map<String, Integer> rateLimits) {
+        this.rateLimits = rateLimits;
+    }
+
+    /**
+     * The maximum number of requests per second sent to services that don't have a rate limit of their own. Unlimited
+     * if not set.
+     */
+    public Integer getDefaultRateLimit() {
+        return defaultRateLimit;
+    }
+
+    public void setDefaultRateLimit(Integer defaultRateLimit) {
+        this.defaultRateLimit = defaultRateLimit;
+    }
+
+    /**
+     * The number of requests that can be sent to each rate limited service at once before the rate applies, keyed by
+     * the service name. Defaults to the service's rate limit, and can't be lower than it.
+     */
+    public Map<String, Integer> getRateLimitBursts() {
+        if (rateLimitBursts == null) {
+            rateLimitBursts = new HashMap<>();
+        }
+
+        return rateLimitBursts;
+    }
+
+    public void setRateLimitBursts(Map<String, Integer> rateLimitBursts) {
+        this.rateLimitBursts = rateLimitBursts;
+    }
+
+    /**
+     * The maximum number of describe calls a query makes at once when fetching the details of the items it listed. Defaults to ``10``.
+     */
+    public Integer getFinderParallelism() {
+        if (finderParallelism == null) {
+            finderParallelism = 10;
+        }
+
+        return finderParallelism;
+    }
+
+    public void setFinderParallelism(Integer finderParallelism) {
+        this.finderParallelism = finderParallelism;
+    }
+
     public AwsCredentialsProvider provider() {
         return provider;
     }
 
+    /**
+     * Returns the account identity these credentials resolve to, looked up once per run.
+     */
+    public AwsAccountIdentity identity() {
+        return AwsAccountIdentity.of(this);
+    }
+
     @Override
     public void refresh() {
         provider().resolveCredentials();
@@ -16,9 +16,12 @@
 
 package gyro.aws;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import com.psddev.dari.util.TypeDefinition;
@@ -64,6 +67,17 @@ public abstract class AwsFinder<C extends SdkClient, M, R extends AwsResource> e
         return resource;
     }
 
+    /**
+     * Fetches the details of each listed item with {@code describe}, with up to
+     * {@link AwsCredentials#getFinderParallelism()} calls in flight, and returns them in the same order as the items.
+     * Items without details are left out.
+     */
+    protected <T> List<M> hydrate(Collection<T> items, Function<? super T, ? extends M> describe) {
+        return AwsParallel.map(items, credentials(AwsCredentials.class).getFinderParallelism(), describe).stream()
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+
     protected abstract List<M> findAws(C client, Map<String, String> filters);
 
     @Override
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026, Brightspot.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package gyro.aws;
+
+import java.net.MalformedURLException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import gyro.core.GyroException;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.apache.ProxyConfiguration;
+
+/**
+ * Shares one Apache HTTP connection pool between every service client that uses the same proxy and HTTP settings.
+ */
+final class AwsHttpClients {
+
+    private static final ConcurrentMap<HttpClientKey, SdkHttpClient> httpClients = new ConcurrentHashMap<>();
+
+    private AwsHttpClients() {
+    }
+
+    static SdkHttpClient get(AwsCredentials credentials, URL proxy) {
+        HttpClientKey key = new HttpClientKey(credentials, proxy);
+        SdkHttpClient httpClient = httpClients.get(key);
+
+        if (httpClient == null) {
+            httpClient = httpClients.computeIfAbsent(key, HttpClientKey::build);
+        }
+
+        return httpClient;
+    }
+
+    static void closeAll() {
+        httpClients.keySet().forEach(k -> {
+            SdkHttpClient httpClient = httpClients.remove(k);
+
+            if (httpClient != null) {
+                httpClient.close();
+            }
+        });
+    }
+
+    private static final class HttpClientKey {
+
+        private final String proxy;
+        private final Integer maxConnections;
+        private final Integer connectionTimeToLive;
+        private final Integer connectionMaxIdleTime;
+        private final Boolean useIdleConnectionReaper;
+        private final Boolean tcpKeepAlive;
+        private final Integer socketTimeout;
+        private final Integer connectionTimeout;
+
+        private HttpClientKey(AwsCredentials credentials, URL proxy) {
+            this.proxy = proxy != null ? proxy.toString() : null;
+            this.maxConnections = credentials.getMaxConnections();
+            this.connectionTimeToLive = credentials.getConnectionTimeToLive();
+            this.connectionMaxIdleTime = credentials.getConnectionMaxIdleTime();
+            this.useIdleConnectionReaper = credentials.getUseIdleConnectionReaper();
+            this.tcpKeepAlive = credentials.getTcpKeepAlive();
+            this.socketTimeout = credentials.getSocketTimeout();
+            this.connectionTimeout = credentials.getConnectionTimeout();
+        }
+
+        private SdkHttpClient build() {
+            ApacheHttpClient.Builder builder = ApacheHttpClient.builder();
+
+            if (proxy != null) {
+                try {
+                    builder.proxyConfiguration(ProxyConfiguration.builder()
+                        .endpoint(new URL(proxy).toURI())
+                        .build());
+
+                } catch (MalformedURLException | URISyntaxException ex) {
+                    throw new GyroException(ex);
+                }
+            }
+
+            if (maxConnections != null) {
+                builder.maxConnections(maxConnections);
+            }
+
+            if (connectionTimeToLive != null) {
+                builder.connectionTimeToLive(Duration.ofSeconds(connectionTimeToLive));
+            }
+
+            if (connectionMaxIdleTime != null) {
+                builder.connectionMaxIdleTime(Duration.ofSeconds(connectionMaxIdleTime));
+            }
+
+            if (useIdleConnectionReaper != null) {
+                builder.useIdleConnectionReaper(useIdleConnectionReaper);
+            }
+
+            if (tcpKeepAlive != null) {
+                builder.tcpKeepAlive(tcpKeepAlive);
+            }
+
+            if (socketTimeout != null) {
+                builder.socketTimeout(Duration.ofSeconds(socketTimeout));
+            }
+
+            if (connectionTimeout != null) {
+                builder.connectionTimeout(Duration.ofSeconds(connectionTimeout));
+            }
+
+            return builder.build();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+
+            if (!(other instanceof HttpClientKey)) {
+                return false;
+            }
+
+            HttpClientKey that = (HttpClientKey) other;
+
+            return Objects.equals(proxy, that.proxy)
+                && Objects.equals(maxConnections, that.maxConnections)
+                && Objects.equals(connectionTimeToLive, that.connectionTimeToLive)
+                && Objects.equals(connectionMaxIdleTime, that.connectionMaxIdleTime)
+                && Objects.equals(useIdleConnectionReaper, that.useIdleConnectionReaper)
+                && Objects.equals(tcpKeepAlive, that.tcpKeepAlive)
+                && Objects.equals(socketTimeout, that.socketTimeout)
+                && Objects.equals(connectionTimeout, that.connectionTimeout);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(
+                proxy,
+                maxConnections,
+                connectionTimeToLive,
+                connectionMaxIdleTime,
+                useIdleConnectionReaper,
+                tcpKeepAlive,
+                socketTimeout,
+                connectionTimeout);
+        }
+    }
+}
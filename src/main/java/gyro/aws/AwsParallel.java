@@ -0,0 +1,202 @@
+/*
+ * Copyright 2026, Brightspot.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package gyro.aws;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import gyro.core.GyroException;
+
+/**
+ * Runs independent AWS calls concurrently with a bound on how many are in flight at once.
+ */
+public final class AwsParallel {
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(r -> {
+        Thread thread = new Thread(r, "gyro-aws-" + THREAD_COUNT.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final ConcurrentMap<String, Semaphore> BUDGETS = new ConcurrentHashMap<>();
+
+    private AwsParallel() {
+    }
+
+    /**
+     * Applies the function to every item with at most {@code parallelism} calls in flight, and returns the results in
+     * the same order as the items. The first failure is rethrown after the remaining calls are cancelled.
+     */
+    public static <T, R> List<R> map(Collection<T> items, int parallelism, Function<? super T, ? extends R> function) {
+        if (parallelism <= 1) {
+            return items.stream().map(function).collect(Collectors.toList());
+        }
+
+        return map(items, new Semaphore(parallelism), function);
+    }
+
+    /**
+     * Applies the function to every item with the calls in flight bounded by the given permits, which may be shared
+     * with other callers through {@link #budget(String, int)}.
+     */
+    public static <T, R> List<R> map(Collection<T> items, Semaphore permits, Function<? super T, ? extends R> function) {
+        if (items.size() <= 1) {
+            return items.stream().map(function).collect(Collectors.toList());
+        }
+
+        List<Future<R>> futures = new ArrayList<>(items.size());
+
+        try {
+            for (T item : items) {
+                permits.acquire();
+
+                PermitTask<R> task = new PermitTask<>(permits, () -> function.apply(item));
+
+                try {
+                    EXECUTOR.execute(task);
+
+                } catch (RuntimeException error) {
+                    task.cancel(false);
+                    throw error;
+                }
+
+                futures.add(task);
+            }
+
+            List<R> results = new ArrayList<>(futures.size());
+
+            for (Future<R> future : futures) {
+                results.add(future.get());
+            }
+
+            return results;
+
+        } catch (InterruptedException error) {
+            futures.forEach(f -> f.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new GyroException("Interrupted while waiting for AWS requests to finish!", error);
+
+        } catch (ExecutionException error) {
+            futures.forEach(f -> f.cancel(true));
+            Throwable cause = error.getCause();
+
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+
+            throw new GyroException(cause);
+        }
+    }
+
+    /**
+     * Runs the tasks with at most {@code parallelism} in flight and waits for all of them to finish.
+     */
+    public static void run(int parallelism, Runnable... tasks) {
+        map(Arrays.asList(tasks), parallelism, task -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs the tasks with the calls in flight bounded by the given permits and waits for all of them to finish.
+     */
+    public static void run(Semaphore permits, Runnable... tasks) {
+        map(Arrays.asList(tasks), permits, task -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Makes the calls of every load concurrently, with the calls in flight bounded by the given permits, then applies
+     * them. Each load only makes its calls and returns the update to apply, and the updates run on the calling thread
+     * in order once every load has finished, so the loads never modify resources from another thread.
+     */
+    @SafeVarargs
+    public static void load(Semaphore permits, Supplier<Runnable>... loads) {
+        map(Arrays.asList(loads), permits, Supplier::get).forEach(Runnable::run);
+    }
+
+    /**
+     * Returns the concurrency budget shared by every caller using the same name, so that the fan-outs of many
+     * resources together keep at most {@code permits} calls in flight against one service.
+     */
+    public static Semaphore budget(String name, int permits) {
+        return BUDGETS.computeIfAbsent(name, n -> new Semaphore(permits));
+    }
+
+    /**
+     * Holds one permit from the time it's submitted and gives it back exactly once: when the call finishes if it
+     * started, or as soon as the task is cancelled if it never did.
+     */
+    private static class PermitTask<R> extends FutureTask<R> {
+
+        private final Semaphore permits;
+        private final AtomicBoolean claimed;
+
+        PermitTask(Semaphore permits, Callable<R> callable) {
+            this(permits, callable, new AtomicBoolean());
+        }
+
+        private PermitTask(Semaphore permits, Callable<R> callable, AtomicBoolean claimed) {
+            super(() -> {
+                if (!claimed.compareAndSet(false, true)) {
+                    return null;
+                }
+
+                try {
+                    return callable.call();
+
+                } finally {
+                    permits.release();
+                }
+            });
+
+            this.permits = permits;
+            this.claimed = claimed;
+        }
+
+        @Override
+        protected void done() {
+            if (claimed.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+    }
+}
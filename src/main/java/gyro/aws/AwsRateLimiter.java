@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026, Brightspot.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package gyro.aws;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import software.amazon.awssdk.core.SdkClient;
+import software.amazon.awssdk.core.exception.AbortedException;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+
+/**
+ * Token bucket that paces the requests sent to one service in one region for one set of credentials, so that every
+ * client and resource in a run shares the same budget and stays under the service's API rate limits instead of being
+ * throttled and retried. It's installed on the clients as an execution interceptor and takes a token before each
+ * attempt, waiting for one if the bucket is empty.
+ *
+ * <p>Requests aren't limited unless a rate is set, in requests per second, per service with
+ * {@link AwsCredentials#getRateLimits()} or for every service with {@link AwsCredentials#getDefaultRateLimit()}. The
+ * bucket holds one second's worth of tokens unless {@link AwsCredentials#getRateLimitBursts()} sets a larger burst for
+ * the service, such as the bucket size the service documents for its own throttling.</p>
+ */
+public final class AwsRateLimiter implements ExecutionInterceptor {
+
+    private static final ConcurrentMap<String, AwsRateLimiter> LIMITERS = new ConcurrentHashMap<>();
+
+    private final double rate;
+    private final double capacity;
+    private double tokens;
+    private long refilled;
+
+    private AwsRateLimiter(int rate, int burst) {
+        this.rate = rate;
+        this.capacity = burst;
+        this.tokens = burst;
+        this.refilled = System.nanoTime();
+    }
+
+    /**
+     * Returns the limiter shared by the clients of the given class for the credentials and region, or {@code null} if
+     * requests to the service aren't limited.
+     */
+    static AwsRateLimiter get(Class<? extends SdkClient> clientClass, AwsCredentials credentials, String region) {
+        String service = serviceName(clientClass);
+        Integer rate = credentials.getRateLimits().get(service);
+
+        if (rate == null) {
+            rate = credentials.getDefaultRateLimit();
+        }
+
+        if (rate == null || rate <= 0) {
+            return null;
+        }
+
+        int limit = rate;
+        int burst = Math.max(limit, credentials.getRateLimitBursts().getOrDefault(service, limit));
+        String profileName = credentials.getProfileName() == null ? "" : credentials.getProfileName();
+
+        return LIMITERS.computeIfAbsent(
+            String.join("/", service, region, profileName, String.valueOf(limit), String.valueOf(burst)),
+            k -> new AwsRateLimiter(limit, burst));
+    }
+
+    @Override
+    public void beforeTransmission(Context.BeforeTransmission context, ExecutionAttributes executionAttributes) {
+        long wait = reserve();
+
+        if (wait > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(wait);
+
+            } catch (InterruptedException error) {
+                Thread.currentThread().interrupt();
+                throw AbortedException.create("Interrupted while waiting for the AWS request rate limit!", error);
+            }
+        }
+    }
+
+    /**
+     * Takes a token and returns how long in nanoseconds to wait before it can be used. Tokens may be borrowed ahead
+     * of time, so waiting callers are served in the order they arrived.
+     */
+    private synchronized long reserve() {
+        long now = System.nanoTime();
+
+        tokens = Math.min(capacity, tokens + (now - refilled) * rate / TimeUnit.SECONDS.toNanos(1));
+        refilled = now;
+        tokens -= 1;
+
+        return tokens >= 0 ? 0L : (long) (-tokens / rate * TimeUnit.SECONDS.toNanos(1));
+    }
+
+    private static String serviceName(Class<? extends SdkClient> clientClass) {
+        try {
+            return (String) clientClass.getField("SERVICE_NAME").get(null);
+
+        } catch (ReflectiveOperationException error) {
+            return clientClass.getSimpleName().replaceAll("Client$", "").toLowerCase();
+        }
+    }
+}
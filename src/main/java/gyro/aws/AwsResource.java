@@ -20,8 +20,11 @@ import java.lang.reflect.Method;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URL;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 
 import gyro.core.GyroException;
 import gyro.core.resource.Diffable;
@@ -32,23 +35,29 @@ import software.amazon.awssdk.core.SdkClient;
 import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.core.retry.conditions.RetryOnThrottlingCondition;
-import software.amazon.awssdk.http.SdkHttpClient;
-import software.amazon.awssdk.http.apache.ApacheHttpClient;
-import software.amazon.awssdk.http.apache.ProxyConfiguration;
 import software.amazon.awssdk.regions.Region;
 
 public abstract class AwsResource extends Resource {
 
-    private static final Map<String, SdkClient> clients = new HashMap<>();
+    private static final ConcurrentMap<ClientKey, FutureTask<SdkClient>> clients = new ConcurrentHashMap<>();
     private transient SdkClient client;
-    private static boolean bustClientCache = false;
 
+    /**
+     * Evicts every cached client so the next request builds a new one. Evicted clients aren't closed, since resources
+     * and batchers may still hold them, see {@link #closeClients()} for shutdown.
+     *
+     * @deprecated Use {@link #closeClient(Class, AwsCredentials, String, String)} to replace a single client instead.
+     */
+    @Deprecated
     public static void bustClientCache() {
-        bustClientCache = true;
+        clients.clear();
     }
 
+    /**
+     * @deprecated Clients are always cached until they are explicitly closed.
+     */
+    @Deprecated
     public static void keepClientCache() {
-        bustClientCache = false;
     }
 
     protected <T extends SdkClient> T createClient(Class<T> clientClass) {
@@ -72,77 +81,147 @@ public abstract class AwsResource extends Resource {
         return (T) client;
     }
 
-    public static synchronized <T extends SdkClient> T createClient(Class<T> clientClass, AwsCredentials credentials) {
+    /**
+     * Returns the account identity of the resource's credentials, see {@link AwsCredentials#identity()}.
+     */
+    protected AwsAccountIdentity accountIdentity() {
+        Diffable parent = parent();
+        if (parent instanceof AwsResource) {
+            return ((AwsResource) parent).accountIdentity();
+        }
+
+        return credentials(AwsCredentials.class).identity();
+    }
+
+    public static <T extends SdkClient> T createClient(Class<T> clientClass, AwsCredentials credentials) {
         return createClient(clientClass, credentials, null, null);
     }
 
-    public static synchronized <T extends SdkClient> T createClient(Class<T> clientClass, AwsCredentials credentials, String region, String endpoint) {
+    /**
+     * Returns the cached client for the given client class, credentials, region and endpoint, building it the first
+     * time it's requested. Cache hits don't take any locks. Concurrent requests for a missing client share a single
+     * build, which runs outside the cache's locks, and a failed build is evicted so that the next request retries it.
+     */
+    public static <T extends SdkClient> T createClient(Class<T> clientClass, AwsCredentials credentials, String region, String endpoint) {
         if (credentials == null) {
             throw new GyroException(String.format(
                 "Unable to create %s, no credentials specified!",
                 clientClass));
         }
 
-        if (clientClass.getSimpleName().equals("IamClient")) {
-            region = "us-east-1";
-            endpoint = "https://iam.amazonaws.com";
+        ClientKey key = ClientKey.of(clientClass, credentials, region, endpoint);
+        FutureTask<SdkClient> task = clients.get(key);
 
-        } else if (clientClass.getSimpleName().equals("GlobalAcceleratorClient")) {
-            region = "us-west-2";
-            endpoint = "https://globalaccelerator.us-west-2.amazonaws.com";
+        if (task == null) {
+            task = clients.computeIfAbsent(key, k -> new FutureTask<>(() -> buildClient(k, credentials)));
         }
 
-        String key = String.format("Client Class: %s, Credentials: %s, Region: %s, Endpoint: %s",
-            clientClass.getName(), credentials.getProfileName() == null ? "" : credentials.getProfileName(),
-            region == null ? credentials.getRegion() : region, endpoint == null ? "" : endpoint);
+        task.run();
 
-        if (bustClientCache) {
-            clients.clear();
-        }
+        try {
+            return clientClass.cast(task.get());
 
-        if (clients.get(key) == null) {
-            try {
-                AwsCredentialsProvider provider = credentials.provider();
-
-                ClientOverrideConfiguration.Builder retryPolicy = ClientOverrideConfiguration.builder()
-                    .retryPolicy(RetryPolicy.builder()
-                        .numRetries(20)
-                        .retryCapacityCondition(RetryOnThrottlingCondition.create())
-                        .build());
-
-                Method method = clientClass.getMethod("builder");
-                AwsDefaultClientBuilder builder = (AwsDefaultClientBuilder) method.invoke(null);
-                builder.credentialsProvider(provider);
-                builder.region(Region.of(region != null ? region : credentials.getRegion()));
-                builder.overrideConfiguration(retryPolicy.build());
-
-
-                URL proxyUrl = proxy();
-                if (proxyUrl != null) {
-                    SdkHttpClient httpClient = ApacheHttpClient.builder()
-                        .proxyConfiguration(ProxyConfiguration.builder()
-                            .endpoint(proxyUrl.toURI())
-                            .build())
-                        .build();
-
-                    builder.httpClient(httpClient);
-                } else {
-                    builder.httpClientBuilder(ApacheHttpClient.builder());
-                }
-
-                if (endpoint != null) {
-                    builder.endpointOverride(URI.create(endpoint));
-                }
-
-                T client = (T) builder.build();
-                clients.put(key, client);
-
-            } catch (Exception ex) {
-                throw new GyroException(String.format("Unable to create %s !", clientClass), ex);
+        } catch (ExecutionException ex) {
+            clients.remove(key, task);
+
+            Throwable cause = ex.getCause();
+
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
             }
+
+            throw new GyroException(String.format("Unable to create %s !", clientClass), cause);
+
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new GyroException(String.format("Interrupted while creating %s !", clientClass), ex);
         }
+    }
 
-        return (T) clients.get(key);
+    /**
+     * Closes and evicts the cached client for the given client class, credentials, region and endpoint.
+     */
+    public static void closeClient(Class<? extends SdkClient> clientClass, AwsCredentials credentials, String region, String endpoint) {
+        if (credentials == null) {
+            return;
+        }
+
+        close(clients.remove(ClientKey.of(clientClass, credentials, region, endpoint)));
+    }
+
+    /**
+     * Closes and evicts every cached client built for the given credentials.
+     */
+    public static void closeClients(AwsCredentials credentials) {
+        if (credentials == null) {
+            return;
+        }
+
+        String profileName = ClientKey.profileName(credentials);
+
+        clients.keySet().stream()
+            .filter(k -> k.profileName.equals(profileName))
+            .forEach(k -> close(clients.remove(k)));
+    }
+
+    /**
+     * Closes and evicts every cached client along with the HTTP connection pools they share. This is meant for
+     * shutdown, once nothing holds on to a cached client anymore.
+     */
+    public static void closeClients() {
+        clients.keySet().forEach(k -> close(clients.remove(k)));
+        AwsHttpClients.closeAll();
+    }
+
+    private static void close(FutureTask<SdkClient> task) {
+        if (task == null || !task.isDone()) {
+            return;
+        }
+
+        try {
+            task.get().close();
+
+        } catch (ExecutionException ex) {
+            // The client was never built, so there's nothing to close.
+
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static SdkClient buildClient(ClientKey key, AwsCredentials credentials) {
+        try {
+            AwsCredentialsProvider provider = credentials.provider();
+
+            ClientOverrideConfiguration.Builder retryPolicy = ClientOverrideConfiguration.builder()
+                .retryPolicy(RetryPolicy.builder()
+                    .numRetries(20)
+                    .retryCapacityCondition(RetryOnThrottlingCondition.create())
+                    .build());
+
+            AwsRateLimiter rateLimiter = AwsRateLimiter.get(key.clientClass, credentials, key.region);
+
+            if (rateLimiter != null) {
+                retryPolicy.addExecutionInterceptor(rateLimiter);
+            }
+
+            Method method = key.clientClass.getMethod("builder");
+            AwsDefaultClientBuilder builder = (AwsDefaultClientBuilder) method.invoke(null);
+            builder.credentialsProvider(provider);
+            builder.region(Region.of(key.region));
+            builder.overrideConfiguration(retryPolicy.build());
+
+            builder.httpClient(AwsHttpClients.get(credentials, proxy()));
+
+            if (!key.endpoint.isEmpty()) {
+                builder.endpointOverride(URI.create(key.endpoint));
+            }
+
+            return (SdkClient) builder.build();
+
+        } catch (Exception ex) {
+            throw new GyroException(String.format("Unable to create %s !", key.clientClass), ex);
+        }
     }
 
     @FunctionalInterface
@@ -150,31 +229,12 @@ public abstract class AwsResource extends Resource {
         Object apply();
     }
 
+    /**
+     * Makes the call, retrying it on throttling, server errors and resources that haven't propagated yet. See
+     * {@link AwsRetry}.
+     */
     public Object executeService(Service service) {
-        boolean available = false;
-        int counter = 10;
-        Object result = null;
-        while (!available) {
-            available = true;
-            try {
-                result = service.apply();
-            } catch (Exception error) {
-                available = false;
-                counter--;
-
-                if (counter < 0) {
-                    throw new GyroException("AWS service request failed!\n" + error.getMessage());
-                }
-
-                try {
-                    Thread.sleep(1000);
-                } catch (InterruptedException e) {
-                    return null;
-                }
-            }
-        }
-
-        return result;
+        return AwsRetry.execute(service::apply);
     }
 
     private static URL proxy() {
@@ -193,4 +253,63 @@ public abstract class AwsResource extends Resource {
         return null;
     }
 
+    private static final class ClientKey {
+
+        private final Class<? extends SdkClient> clientClass;
+        private final String profileName;
+        private final String region;
+        private final String endpoint;
+
+        private ClientKey(Class<? extends SdkClient> clientClass, String profileName, String region, String endpoint) {
+            this.clientClass = clientClass;
+            this.profileName = profileName;
+            this.region = region;
+            this.endpoint = endpoint;
+        }
+
+        static ClientKey of(Class<? extends SdkClient> clientClass, AwsCredentials credentials, String region, String endpoint) {
+            if (clientClass.getSimpleName().equals("IamClient")) {
+                region = "us-east-1";
+                endpoint = "https://iam.amazonaws.com";
+
+            } else if (clientClass.getSimpleName().equals("GlobalAcceleratorClient")) {
+                region = "us-west-2";
+                endpoint = "https://globalaccelerator.us-west-2.amazonaws.com";
+            }
+
+            return new ClientKey(
+                clientClass,
+                profileName(credentials),
+                region == null ? credentials.getRegion() : region,
+                endpoint == null ? "" : endpoint);
+        }
+
+        static String profileName(AwsCredentials credentials) {
+            return credentials.getProfileName() == null ? "" : credentials.getProfileName();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+
+            if (!(other instanceof ClientKey)) {
+                return false;
+            }
+
+            ClientKey that = (ClientKey) other;
+
+            return clientClass.equals(that.clientClass)
+                && profileName.equals(that.profileName)
+                && Objects.equals(region, that.region)
+                && endpoint.equals(that.endpoint);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(clientClass, profileName, region, endpoint);
+        }
+    }
+
 }
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2026, Brightspot.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package gyro.aws;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import gyro.core.GyroException;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.core.retry.RetryUtils;
+
+/**
+ * Retries AWS calls on errors that are expected to clear up on their own, with a decorrelated jitter backoff that
+ * depends on the kind of error. Throttling backs off the longest, server errors and dropped connections retry
+ * quickly, a clock skew error is retried once the SDK has corrected its clock, and errors for resources that haven't
+ * propagated yet, which are common when tagging a resource that was just created, are retried at a steady pace. Any
+ * other error, such as a validation failure, is thrown right away.
+ *
+ * <p>Retries are counted per service, see {@link #retryCounts()}.</p>
+ */
+public final class AwsRetry {
+
+    public static final int DEFAULT_MAX_ATTEMPTS = 10;
+
+    private static final String UNKNOWN_SERVICE = "unknown";
+
+    private static final ConcurrentMap<String, LongAdder> RETRY_COUNTS = new ConcurrentHashMap<>();
+
+    private AwsRetry() {
+    }
+
+    /**
+     * Makes the call, retrying it up to {@link #DEFAULT_MAX_ATTEMPTS} times in total.
+     */
+    public static <T> T execute(Supplier<T> call) {
+        return execute(DEFAULT_MAX_ATTEMPTS, call);
+    }
+
+    /**
+     * Makes the call, retrying it up to {@code maxAttempts} times in total.
+     */
+    public static <T> T execute(int maxAttempts, Supplier<T> call) {
+        long delay = 0L;
+        boolean clockSkewRetried = false;
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return call.get();
+
+            } catch (SdkException error) {
+                Reason reason = Reason.of(error);
+
+                if (reason == Reason.NONE
+                    || attempt >= maxAttempts
+                    || (reason == Reason.CLOCK_SKEW && clockSkewRetried)) {
+
+                    throw error;
+                }
+
+                clockSkewRetried |= reason == Reason.CLOCK_SKEW;
+
+                RETRY_COUNTS.computeIfAbsent(serviceName(error), s -> new LongAdder()).increment();
+                delay = reason.nextDelay(delay);
+
+                try {
+                    Thread.sleep(delay);
+
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new GyroException("Interrupted while retrying AWS service request!", error);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of retries made so far, keyed by the service name.
+     */
+    public static Map<String, Long> retryCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+
+        RETRY_COUNTS.forEach((service, count) -> counts.put(service, count.sum()));
+
+        return Collections.unmodifiableMap(counts);
+    }
+
+    private static String serviceName(SdkException error) {
+        if (error instanceof AwsServiceException) {
+            AwsServiceException serviceError = (AwsServiceException) error;
+
+            if (serviceError.awsErrorDetails() != null && serviceError.awsErrorDetails().serviceName() != null) {
+                return serviceError.awsErrorDetails().serviceName();
+            }
+        }
+
+        return UNKNOWN_SERVICE;
+    }
+
+    private enum Reason {
+
+        THROTTLING(1000L, 20000L),
+        SERVER(200L, 5000L),
+        CLOCK_SKEW(0L, 0L),
+        NOT_PROPAGATED(1000L, 5000L),
+        NONE(0L, 0L);
+
+        private final long baseDelay;
+        private final long maxDelay;
+
+        Reason(long baseDelay, long maxDelay) {
+            this.baseDelay = baseDelay;
+            this.maxDelay = maxDelay;
+        }
+
+        static Reason of(SdkException error) {
+            if (RetryUtils.isThrottlingException(error)) {
+                return THROTTLING;
+
+            } else if (RetryUtils.isClockSkewException(error)) {
+                return CLOCK_SKEW;
+
+            } else if (error instanceof SdkServiceException && ((SdkServiceException) error).statusCode() >= 500) {
+                return SERVER;
+
+            } else if (isNotPropagated(error)) {
+                return NOT_PROPAGATED;
+
+            } else if (RetryUtils.isRetryableException(error)) {
+                return SERVER;
+            }
+
+            return NONE;
+        }
+
+        // Decorrelated jitter: a random delay between the base and three times the last one.
+        long nextDelay(long previous) {
+            if (maxDelay == 0L) {
+                return 0L;
+            }
+
+            long upper = Math.max(baseDelay, previous * 3);
+
+            return Math.min(maxDelay, ThreadLocalRandom.current().nextLong(baseDelay, upper + 1));
+        }
+
+        private static boolean isNotPropagated(SdkException error) {
+            if (!(error instanceof AwsServiceException)) {
+                return false;
+            }
+
+            AwsServiceException serviceError = (AwsServiceException) error;
+            String code = serviceError.awsErrorDetails() != null ? serviceError.awsErrorDetails().errorCode() : null;
+
+            if (code == null) {
+                return false;
+            }
+
+            // EC2 reports resources that aren't visible yet as InvalidXxxID.NotFound, RDS as XxxNotFound or
+            // XxxNotFoundFault, and WAF as an unavailable entity or a stale lock token.
+            return code.endsWith("NotFound")
+                || code.endsWith("NotFoundFault")
+                || code.equals("WAFUnavailableEntityException")
+                || code.equals("WAFOptimisticLockException");
+        }
+    }
+}
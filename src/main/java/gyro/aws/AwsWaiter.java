@@ -0,0 +1,231 @@
+/*
+ * Copyright 2026, Brightspot.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package gyro.aws;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import gyro.core.GyroException;
+import gyro.core.TimeoutSettings;
+import gyro.core.Wait;
+import gyro.core.resource.Resource;
+
+/**
+ * Polls for a resource to reach a state with a delay that starts short and grows with decorrelated jitter up to a
+ * ceiling, instead of probing on a fixed interval. The first probe is sent right away, so waits that are already
+ * satisfied return immediately, and concurrent waits spread their probes out instead of hitting the API in lockstep.
+ * Waits for a ready state the resource was already in before the call, such as {@code available} after a modify,
+ * should use {@link #delayFirstProbe(boolean)} so the first probe doesn't read the state from before the change.
+ *
+ * <p>Waits still go through {@link Wait}, so {@code timeout} overrides and prompts behave the same as before. Only
+ * the services whose describe calls report a state to wait on use it: EC2 instances, RDS instances and clusters, EKS
+ * clusters and node groups, ECS services, DynamoDB tables and CloudFront distributions.</p>
+ *
+ * <pre>
+ *     boolean running = AwsWaiter.profile(AwsWaiter.Profile.INSTANCE)
+ *         .atMost(3, TimeUnit.MINUTES)
+ *         .resourceOverrides(this, TimeoutSettings.Action.CREATE)
+ *         .prompt(false)
+ *         .untilState(
+ *             () -&gt; getInstanceState(client),
+ *             Collections.singleton("running"),
+ *             Arrays.asList("shutting-down", "terminated"));
+ * </pre>
+ */
+public final class AwsWaiter {
+
+    private static final long TICK_MILLIS = 1000L;
+
+    private final Profile profile;
+    private long duration;
+    private TimeUnit unit;
+    private Resource resource;
+    private TimeoutSettings.Action action;
+    private boolean prompt = true;
+    private boolean delayFirstProbe;
+
+    private AwsWaiter(Profile profile) {
+        this.profile = profile;
+        this.duration = profile.timeout.toMillis();
+        this.unit = TimeUnit.MILLISECONDS;
+    }
+
+    public static AwsWaiter profile(Profile profile) {
+        return new AwsWaiter(profile);
+    }
+
+    /**
+     * Overrides the default timeout of the profile.
+     */
+    public AwsWaiter atMost(long duration, TimeUnit unit) {
+        this.duration = duration;
+        this.unit = unit;
+        return this;
+    }
+
+    public AwsWaiter resourceOverrides(Resource resource, TimeoutSettings.Action action) {
+        this.resource = resource;
+        this.action = action;
+        return this;
+    }
+
+    public AwsWaiter prompt(boolean prompt) {
+        this.prompt = prompt;
+        return this;
+    }
+
+    /**
+     * Waits for the first delay of the profile before the first probe instead of sending it right away.
+     */
+    public AwsWaiter delayFirstProbe(boolean delayFirstProbe) {
+        this.delayFirstProbe = delayFirstProbe;
+        return this;
+    }
+
+    /**
+     * Waits until the condition is {@code true}, returning {@code false} if it isn't before the timeout.
+     */
+    public boolean until(BooleanSupplier condition) {
+        Backoff backoff = new Backoff(profile);
+
+        if (delayFirstProbe) {
+            backoff.delayFirst();
+        }
+
+        Wait wait = Wait.atMost(duration, unit)
+            .checkEvery(TICK_MILLIS, TimeUnit.MILLISECONDS)
+            .prompt(prompt);
+
+        if (resource != null) {
+            wait = wait.resourceOverrides(resource, action);
+        }
+
+        return wait.until(() -> {
+            if (!backoff.isDue()) {
+                return false;
+            }
+
+            try {
+                return condition.getAsBoolean();
+
+            } finally {
+                backoff.next();
+            }
+        });
+    }
+
+    /**
+     * Waits until {@code state} returns one of the {@code ready} states. A state in {@code failed} is one the resource
+     * won't recover from, so it's thrown right away instead of waiting for the timeout.
+     */
+    public boolean untilState(Supplier<String> state, Collection<String> ready, Collection<String> failed) {
+        return until(() -> {
+            String current = state.get();
+
+            if (current != null && failed.contains(current)) {
+                throw new GyroException(String.format(
+                    "Stopped waiting because the resource is in the '%s' state!",
+                    current));
+            }
+
+            return current != null && ready.contains(current);
+        });
+    }
+
+    /**
+     * Timing for a kind of resource. The delay between probes starts at {@code firstDelay} and grows towards
+     * {@code maxDelay}, and {@code timeout} is used when the wait doesn't set its own.
+     */
+    public static final class Profile {
+
+        /** DynamoDB tables and indexes, ECS services. */
+        public static final Profile QUICK = of(
+            Duration.ofMinutes(2),
+            Duration.ofSeconds(2),
+            Duration.ofSeconds(10));
+
+        /** EC2 instance state changes. */
+        public static final Profile INSTANCE = of(
+            Duration.ofMinutes(5),
+            Duration.ofSeconds(5),
+            Duration.ofSeconds(20));
+
+        /** RDS instances and clusters. */
+        public static final Profile DATABASE = of(
+            Duration.ofMinutes(20),
+            Duration.ofSeconds(15),
+            Duration.ofSeconds(60));
+
+        /** EKS clusters and node groups. */
+        public static final Profile CLUSTER = of(
+            Duration.ofMinutes(20),
+            Duration.ofSeconds(15),
+            Duration.ofSeconds(60));
+
+        /** CloudFront distributions. */
+        public static final Profile DISTRIBUTION = of(
+            Duration.ofMinutes(60),
+            Duration.ofSeconds(30),
+            Duration.ofSeconds(120));
+
+        private final Duration timeout;
+        private final Duration firstDelay;
+        private final Duration maxDelay;
+
+        private Profile(Duration timeout, Duration firstDelay, Duration maxDelay) {
+            this.timeout = timeout;
+            this.firstDelay = firstDelay;
+            this.maxDelay = maxDelay;
+        }
+
+        public static Profile of(Duration timeout, Duration firstDelay, Duration maxDelay) {
+            return new Profile(timeout, firstDelay, maxDelay);
+        }
+    }
+
+    private static class Backoff {
+
+        private final long base;
+        private final long max;
+        private long delay;
+        private long nextProbe;
+
+        Backoff(Profile profile) {
+            this.base = Math.max(profile.firstDelay.toMillis(), TICK_MILLIS);
+            this.max = Math.max(profile.maxDelay.toMillis(), base);
+            this.delay = base;
+        }
+
+        void delayFirst() {
+            nextProbe = System.currentTimeMillis() + base;
+        }
+
+        boolean isDue() {
+            return System.currentTimeMillis() >= nextProbe;
+        }
+
+        void next() {
+            // Decorrelated jitter: the next delay is random between the base and three times the last one.
+            delay = Math.min(max, ThreadLocalRandom.current().nextLong(base, delay * 3 + 1));
+            nextProbe = System.currentTimeMillis() + delay;
+        }
+    }
+}
@@ -0,0 +1,344 @@
+/*
+ * Copyright 2026, Brightspot.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package gyro.aws;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gyro.core.GyroCore;
+import gyro.core.GyroException;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+
+/**
+ * The engine default parameters of a parameter group family, such as {@code aurora-postgresql15}, shared by the RDS,
+ * DocumentDB and Neptune parameter groups. The defaults of a family don't change within a run and rarely between
+ * runs, so each catalog is loaded once per run and also kept under {@code .gyro/cache} in the Gyro project root for
+ * {@link #DISK_TTL_DAYS} days.
+ */
+public final class ParameterCatalog {
+
+    public static final long DISK_TTL_DAYS = 7;
+
+    private static final Path CACHE_PATH = Paths.get(".gyro", "cache", "aws", "parameter-catalog");
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final ConcurrentMap<String, FutureTask<ParameterCatalog>> catalogs = new ConcurrentHashMap<>();
+
+    private final Map<String, Entry> entries;
+
+    private ParameterCatalog(List<Entry> entries) {
+        Map<String, Entry> byName = new LinkedHashMap<>();
+
+        for (Entry entry : entries) {
+            byName.put(entry.getName(), entry);
+        }
+
+        this.entries = Collections.unmodifiableMap(byName);
+    }
+
+    /**
+     * Returns the catalog of the family, reading it from the disk cache or calling the loader if it hasn't been
+     * loaded in this run. Concurrent requests for the same family share a single load, which runs outside the cache's
+     * locks, and a failed load is evicted so that the next request retries it.
+     *
+     * @param service Distinguishes catalogs of different services or group kinds, e.g. {@code rds-cluster}.
+     */
+    public static ParameterCatalog get(String service, String region, String family, Supplier<List<Entry>> loader) {
+        String key = String.join("_", service, region != null ? region : "", family);
+        FutureTask<ParameterCatalog> task = catalogs.get(key);
+
+        if (task == null) {
+            task = catalogs.computeIfAbsent(key, k -> new FutureTask<>(() -> load(k, loader)));
+        }
+
+        task.run();
+
+        try {
+            return task.get();
+
+        } catch (ExecutionException ex) {
+            catalogs.remove(key, task);
+
+            Throwable cause = ex.getCause();
+
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+
+            throw new GyroException(
+                String.format("Unable to load the engine default parameters of %s!", family),
+                cause);
+
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new GyroException(
+                String.format("Interrupted while loading the engine default parameters of %s!", family),
+                ex);
+        }
+    }
+
+    private static ParameterCatalog load(String key, Supplier<List<Entry>> loader) {
+        Path directory = cacheDirectory();
+        Path file = directory != null
+            ? directory.resolve(key.replaceAll("[^A-Za-z0-9._-]", "_") + ".json")
+            : null;
+
+        List<Entry> entries = file != null ? read(file) : null;
+
+        if (entries == null || entries.isEmpty()) {
+            entries = loader.get();
+
+            // An empty catalog is more likely an unknown family or a failed load than a real one, so it's only kept
+            // for this run.
+            if (file != null && !entries.isEmpty()) {
+                write(file, entries);
+            }
+        }
+
+        return new ParameterCatalog(entries);
+    }
+
+    /**
+     * Returns the default of the parameter, or {@code null} if the family doesn't have it.
+     */
+    public Entry get(String name) {
+        return entries.get(name);
+    }
+
+    /**
+     * Loads every page of engine defaults, following the marker until it runs out, and maps each parameter to an
+     * entry, usually with {@link Entry#of(SdkPojo)}.
+     *
+     * @param page Fetches the page that starts at the given marker, {@code null} for the first page.
+     */
+    public static <R, P> List<Entry> pages(
+        Function<String, R> page,
+        Function<R, List<P>> parameters,
+        Function<R, String> marker,
+        Function<? super P, Entry> mapper) {
+
+        List<Entry> entries = new ArrayList<>();
+        String next = null;
+
+        do {
+            R response = page.apply(next);
+
+            parameters.apply(response).stream().map(mapper).forEach(entries::add);
+            next = marker.apply(response);
+        } while (next != null);
+
+        return entries;
+    }
+
+    // Only cache to disk inside a Gyro project.
+    private static Path cacheDirectory() {
+        Path root = GyroCore.getRootDirectory();
+
+        return root != null && Files.isDirectory(root.resolve(".gyro")) ? root.resolve(CACHE_PATH) : null;
+    }
+
+    private static List<Entry> read(Path file) {
+        try {
+            if (!Files.isRegularFile(file)
+                || System.currentTimeMillis() - Files.getLastModifiedTime(file).toMillis()
+                > TimeUnit.DAYS.toMillis(DISK_TTL_DAYS)) {
+
+                return null;
+            }
+
+            List<Map<String, Object>> values = MAPPER.readValue(
+                file.toFile(),
+                new TypeReference<List<Map<String, Object>>>() { });
+
+            return values.stream().map(Entry::fromMap).collect(Collectors.toList());
+
+        } catch (IOException | RuntimeException error) {
+            return null;
+        }
+    }
+
+    // Never fail the run over the disk cache.
+    private static void write(Path file, List<Entry> entries) {
+        try {
+            Files.createDirectories(file.getParent());
+
+            Path temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+
+            MAPPER.writeValue(temp.toFile(), entries.stream().map(Entry::toMap).collect(Collectors.toList()));
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+
+        } catch (IOException error) {
+            // Loaded again next run.
+        }
+    }
+
+    public static final class Entry {
+
+        private final String name;
+        private final String value;
+        private final String description;
+        private final String source;
+        private final String applyType;
+        private final String applyMethod;
+        private final String dataType;
+        private final String allowedValues;
+        private final Boolean modifiable;
+        private final String minimumEngineVersion;
+
+        private Entry(
+            String name,
+            String value,
+            String description,
+            String source,
+            String applyType,
+            String applyMethod,
+            String dataType,
+            String allowedValues,
+            Boolean modifiable,
+            String minimumEngineVersion) {
+
+            this.name = name;
+            this.value = value;
+            this.description = description;
+            this.source = source;
+            this.applyType = applyType;
+            this.applyMethod = applyMethod;
+            this.dataType = dataType;
+            this.allowedValues = allowedValues;
+            this.modifiable = modifiable;
+            this.minimumEngineVersion = minimumEngineVersion;
+        }
+
+        /**
+         * Returns the entry of an RDS, DocumentDB or Neptune {@code Parameter}. The services each have their own
+         * {@code Parameter} class, but all of them share the same member names.
+         */
+        public static Entry of(SdkPojo parameter) {
+            Map<String, Object> values = new LinkedHashMap<>();
+
+            for (SdkField<?> field : parameter.sdkFields()) {
+                values.put(field.memberName(), field.getValueOrDefault(parameter));
+            }
+
+            return new Entry(
+                (String) values.get("ParameterName"),
+                (String) values.get("ParameterValue"),
+                (String) values.get("Description"),
+                (String) values.get("Source"),
+                (String) values.get("ApplyType"),
+                (String) values.get("ApplyMethod"),
+                (String) values.get("DataType"),
+                (String) values.get("AllowedValues"),
+                (Boolean) values.get("IsModifiable"),
+                (String) values.get("MinimumEngineVersion"));
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public String getSource() {
+            return source;
+        }
+
+        /**
+         * Either {@code static} or {@code dynamic}.
+         */
+        public String getApplyType() {
+            return applyType;
+        }
+
+        public String getApplyMethod() {
+            return applyMethod;
+        }
+
+        public String getDataType() {
+            return dataType;
+        }
+
+        public String getAllowedValues() {
+            return allowedValues;
+        }
+
+        public Boolean getModifiable() {
+            return modifiable;
+        }
+
+        public String getMinimumEngineVersion() {
+            return minimumEngineVersion;
+        }
+
+        private Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+
+            map.put("name", name);
+            map.put("value", value);
+            map.put("description", description);
+            map.put("source", source);
+            map.put("applyType", applyType);
+            map.put("applyMethod", applyMethod);
+            map.put("dataType", dataType);
+            map.put("allowedValues", allowedValues);
+            map.put("modifiable", modifiable);
+            map.put("minimumEngineVersion", minimumEngineVersion);
+
+            return map;
+        }
+
+        private static Entry fromMap(Map<String, Object> map) {
+            return new Entry(
+                (String) map.get("name"),
+                (String) map.get("value"),
+                (String) map.get("description"),
+                (String) map.get("source"),
+                (String) map.get("applyType"),
+                (String) map.get("applyMethod"),
+                (String) map.get("dataType"),
+                (String) map.get("allowedValues"),
+                (Boolean) map.get("modifiable"),
+                (String) map.get("minimumEngineVersion"));
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026, Brightspot.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package gyro.aws;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.psddev.dari.util.ObjectUtils;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetBucketLocationResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+/**
+ * Remembers which region each S3 bucket lives in, so that calls for a bucket go straight to a client for that region
+ * instead of paying a redirect. Regions are learned from {@code HeadBucket}, falling back to
+ * {@code GetBucketLocation}, at most once per bucket per run. Resources that keep the region in their state seed the
+ * cache with {@link #remember(String, String)} so that later runs don't look it up at all.
+ */
+public final class S3BucketRegions {
+
+    private static final String BUCKET_REGION_HEADER = "x-amz-bucket-region";
+
+    private static final ConcurrentMap<String, String> regions = new ConcurrentHashMap<>();
+
+    private S3BucketRegions() {
+    }
+
+    /**
+     * Records the region of the bucket. Blank regions are ignored.
+     */
+    public static void remember(String bucket, String region) {
+        if (!ObjectUtils.isBlank(bucket) && !ObjectUtils.isBlank(region)) {
+            regions.put(bucket, region);
+        }
+    }
+
+    /**
+     * Drops the region of the bucket after it's been deleted.
+     */
+    public static void forget(String bucket) {
+        regions.remove(bucket);
+    }
+
+    /**
+     * Returns the region of the bucket, looking it up with the given client if it isn't known yet, or {@code null} if
+     * the bucket doesn't exist or its region can't be determined.
+     */
+    public static String regionOf(S3Client client, String bucket) {
+        String region = regions.get(bucket);
+
+        if (region == null) {
+            region = lookup(client, bucket);
+            remember(bucket, region);
+        }
+
+        return region;
+    }
+
+    /**
+     * Returns a client for the region the bucket lives in, or the default client for the credentials if the region
+     * can't be determined.
+     */
+    public static S3Client client(AwsCredentials credentials, String bucket) {
+        S3Client client = AwsResource.createClient(S3Client.class, credentials);
+        String region = regionOf(client, bucket);
+
+        return region != null ? AwsResource.createClient(S3Client.class, credentials, region, null) : client;
+    }
+
+    /**
+     * Returns the bucket region reported in the header of a failed request, or {@code null} if there isn't one.
+     * Redirects and access denials still report it.
+     */
+    public static String regionOf(S3Exception error) {
+        if (error.awsErrorDetails() == null || error.awsErrorDetails().sdkHttpResponse() == null) {
+            return null;
+        }
+
+        return error.awsErrorDetails()
+            .sdkHttpResponse()
+            .firstMatchingHeader(BUCKET_REGION_HEADER)
+            .filter(region -> !ObjectUtils.isBlank(region))
+            .orElse(null);
+    }
+
+    private static String lookup(S3Client client, String bucket) {
+        try {
+            return client.headBucket(r -> r.bucket(bucket)).bucketRegion();
+
+        } catch (S3Exception ex) {
+            String region = regionOf(ex);
+
+            if (region != null) {
+                return region;
+            }
+
+            if (ex.statusCode() == 404) {
+                return null;
+            }
+        }
+
+        try {
+            GetBucketLocationResponse response = client.getBucketLocation(r -> r.bucket(bucket));
+            String location = response.locationConstraintAsString();
+
+            if (ObjectUtils.isBlank(location)) {
+                return "us-east-1";
+
+            } else if (location.equals("EU")) {
+                return "eu-west-1";
+            }
+
+            return location;
+
+        } catch (S3Exception ex) {
+            return null;
+        }
+    }
+}
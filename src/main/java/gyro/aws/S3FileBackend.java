@@ -16,7 +16,6 @@
 
 package gyro.aws;
 
-import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.reflect.InvocationTargetException;
@@ -31,11 +30,9 @@ import gyro.core.GyroCore;
 import gyro.core.Type;
 import gyro.core.auth.Credentials;
 import gyro.core.auth.CredentialsSettings;
-import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.ObjectCannedACL;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.S3Object;
 
 @Type("s3")
@@ -81,12 +78,7 @@ public class S3FileBackend extends FileBackend {
 
     @Override
     public OutputStream openOutput(String file) throws Exception {
-        return new ByteArrayOutputStream() {
-
-            public void close() {
-                upload(getBucket(), prefixed(file), RequestBody.fromBytes(toByteArray()));
-            }
-        };
+        return new S3MultipartOutputStream(client(), getBucket(), prefixed(file), ObjectCannedACL.PRIVATE);
     }
 
     @Override
@@ -115,16 +107,6 @@ public class S3FileBackend extends FileBackend {
             .acl(ObjectCannedACL.PRIVATE));
     }
 
-    private void upload(String bucket, String path, RequestBody body) {
-        PutObjectRequest request = PutObjectRequest.builder()
-            .bucket(bucket)
-            .key(path)
-            .acl(ObjectCannedACL.PRIVATE)
-            .build();
-
-        client().putObject(request, body);
-    }
-
     private S3Client client() {
         Credentials credentials;
 
@@ -146,7 +128,7 @@ public class S3FileBackend extends FileBackend {
                 .get(String.format("%s::%s", "aws", credentialName));
         }
 
-        return AwsResource.createClient(S3Client.class, (AwsCredentials) credentials);
+        return S3BucketRegions.client((AwsCredentials) credentials, getBucket());
     }
 
     private String prefixed(String file) {
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2026, Brightspot.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package gyro.aws;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.ObjectCannedACL;
+
+/**
+ * Writes an S3 object in fixed size parts as it's written, so memory use doesn't depend on the size of the object.
+ * The object only becomes visible when the stream is closed. Objects smaller than one part are sent with a single
+ * PutObject call, larger ones with a multipart upload that is aborted if the stream fails or {@link #abort()} is
+ * called.
+ */
+public class S3MultipartOutputStream extends OutputStream {
+
+    public static final int DEFAULT_PART_SIZE = 8 * 1024 * 1024;
+
+    private static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+    private static final String CONTENT_TYPE = "application/octet-stream";
+
+    private final S3Client client;
+    private final String bucket;
+    private final String key;
+    private final ObjectCannedACL acl;
+    private final Map<String, String> metadata;
+    private final byte[] buffer;
+    private final List<CompletedPart> parts = new ArrayList<>();
+
+    private int position;
+    private String uploadId;
+    private boolean closed;
+
+    public S3MultipartOutputStream(S3Client client, String bucket, String key, ObjectCannedACL acl) {
+        this(client, bucket, key, acl, Collections.emptyMap(), DEFAULT_PART_SIZE);
+    }
+
+    public S3MultipartOutputStream(
+        S3Client client,
+        String bucket,
+        String key,
+        Map<String, String> metadata,
+        int partSize) {
+
+        this(client, bucket, key, null, metadata, partSize);
+    }
+
+    public S3MultipartOutputStream(
+        S3Client client,
+        String bucket,
+        String key,
+        ObjectCannedACL acl,
+        Map<String, String> metadata,
+        int partSize) {
+
+        this.client = client;
+        this.bucket = bucket;
+        this.key = key;
+        this.acl = acl;
+        this.metadata = metadata;
+        this.buffer = new byte[Math.max(partSize, MIN_PART_SIZE)];
+    }
+
+    @Override
+    public void write(int b) {
+        checkOpen();
+
+        if (position == buffer.length) {
+            uploadPart();
+        }
+
+        buffer[position++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+        checkOpen();
+
+        while (length > 0) {
+            if (position == buffer.length) {
+                uploadPart();
+            }
+
+            int count = Math.min(length, buffer.length - position);
+
+            System.arraycopy(bytes, offset, buffer, position, count);
+            position += count;
+            offset += count;
+            length -= count;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+
+        try {
+            if (uploadId == null) {
+                client.putObject(
+                    r -> r.bucket(bucket).key(key).acl(acl).metadata(metadata),
+                    bufferedBody());
+
+            } else {
+                if (position > 0) {
+                    uploadPart();
+                }
+
+                client.completeMultipartUpload(r -> r.bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(m -> m.parts(parts)));
+            }
+
+        } catch (SdkException error) {
+            abortUpload();
+            throw error;
+        }
+    }
+
+    /**
+     * Discards everything written so far without creating the object.
+     */
+    public void abort() {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+        abortUpload();
+    }
+
+    private void uploadPart() {
+        try {
+            if (uploadId == null) {
+                uploadId = client.createMultipartUpload(r -> r.bucket(bucket).key(key).acl(acl).metadata(metadata))
+                    .uploadId();
+            }
+
+            int partNumber = parts.size() + 1;
+            String eTag = client.uploadPart(
+                r -> r.bucket(bucket).key(key).uploadId(uploadId).partNumber(partNumber).contentLength((long) position),
+                bufferedBody())
+                .eTag();
+
+            parts.add(CompletedPart.builder().partNumber(partNumber).eTag(eTag).build());
+            position = 0;
+
+        } catch (SdkException error) {
+            closed = true;
+            abortUpload();
+            throw error;
+        }
+    }
+
+    private RequestBody bufferedBody() {
+        int length = position;
+
+        return RequestBody.fromContentProvider(() -> new ByteArrayInputStream(buffer, 0, length), length, CONTENT_TYPE);
+    }
+
+    private void abortUpload() {
+        if (uploadId != null) {
+            try {
+                client.abortMultipartUpload(r -> r.bucket(bucket).key(key).uploadId(uploadId));
+
+            } catch (SdkException ignore) {
+                // Incomplete uploads are cleaned up by the bucket lifecycle rules.
+            }
+
+            uploadId = null;
+        }
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException(String.format("Upload to s3://%s/%s is already closed!", bucket, key));
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026, Brightspot.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package gyro.aws;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.MapMaker;
+import gyro.core.diff.Change;
+import gyro.core.resource.DiffableInternals;
+import gyro.core.resource.Resource;
+
+/**
+ * Coalesces the pending changes of sibling resources that share one API call, such as the entries of a WAF Classic
+ * set or the targets of a target group. The first sibling to be saved sends its own change along with every sibling
+ * whose pending change matches, and the siblings' own saves then find that they've already been sent.
+ */
+public final class SiblingChanges {
+
+    private static final Set<Resource> submitted = Collections.newSetFromMap(new MapMaker().weakKeys().makeMap());
+
+    private SiblingChanges() {
+    }
+
+    /**
+     * Sends the resource together with the siblings whose pending change matches {@code pending}, in calls of up to
+     * {@code maxBatch} resources with the resource itself first. When a combined call fails, the resources in it are
+     * left to be sent one at a time so that each reports its own error.
+     *
+     * @return {@code false} if the resource was already sent along with an earlier sibling.
+     */
+    public static <T extends Resource> boolean send(
+        T resource,
+        Stream<? extends T> siblings,
+        Predicate<? super Change> pending,
+        int maxBatch,
+        Consumer<List<T>> send) {
+
+        return send(resource, siblings, pending, batch -> Lists.partition(batch, maxBatch), send);
+    }
+
+    /**
+     * Same as {@link #send(Resource, Stream, Predicate, int, Consumer)}, but with the resources split into calls by
+     * {@code split}, for APIs that limit the size of a call by more than the number of resources in it. The splits
+     * must keep the order of the resources.
+     */
+    public static <T extends Resource> boolean send(
+        T resource,
+        Stream<? extends T> siblings,
+        Predicate<? super Change> pending,
+        Function<List<T>, List<List<T>>> split,
+        Consumer<List<T>> send) {
+
+        List<T> batch = new ArrayList<>();
+
+        synchronized (submitted) {
+            if (submitted.remove(resource)) {
+                return false;
+            }
+
+            batch.add(resource);
+
+            siblings
+                .filter(s -> s != resource && pending.test(DiffableInternals.getChange(s)))
+                .forEach(batch::add);
+
+            submitted.addAll(batch.subList(1, batch.size()));
+        }
+
+        List<List<T>> calls = null;
+        int next = 0;
+
+        try {
+            calls = split.apply(batch);
+
+            for (; next < calls.size(); next++) {
+                List<T> call = calls.get(next);
+
+                try {
+                    send.accept(call);
+
+                } catch (RuntimeException error) {
+                    release(call);
+
+                    if (next == 0) {
+                        if (call.size() == 1) {
+                            throw error;
+                        }
+
+                        send.accept(Collections.singletonList(resource));
+                    }
+                }
+            }
+
+        } finally {
+            // Siblings in calls that were never made have to send themselves.
+            if (calls == null) {
+                release(batch);
+
+            } else {
+                for (int i = next; i < calls.size(); i++) {
+                    release(calls.get(i));
+                }
+            }
+        }
+
+        return true;
+    }
+
+    private static void release(List<? extends Resource> resources) {
+        synchronized (submitted) {
+            resources.forEach(submitted::remove);
+        }
+    }
+}
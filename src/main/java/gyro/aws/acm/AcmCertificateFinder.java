@@ -107,9 +107,9 @@ public class AcmCertificateFinder extends AwsFinder<AcmClient, CertificateDetail
 
     @Override
     protected List<CertificateDetail> findAllAws(AcmClient client) {
-        return client.listCertificatesPaginator().certificateSummaryList().stream()
-            .map(o -> client.describeCertificate(r -> r.certificateArn(o.certificateArn())).certificate())
-            .collect(Collectors.toList());
+        return hydrate(
+            client.listCertificatesPaginator().certificateSummaryList().stream().collect(Collectors.toList()),
+            o -> client.describeCertificate(r -> r.certificateArn(o.certificateArn())).certificate());
     }
 
     @Override
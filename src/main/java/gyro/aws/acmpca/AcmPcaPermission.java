@@ -26,8 +26,6 @@ import gyro.core.scope.State;
 import gyro.core.validation.ValidStrings;
 import software.amazon.awssdk.services.acmpca.AcmPcaClient;
 import software.amazon.awssdk.services.acmpca.model.Permission;
-import software.amazon.awssdk.services.sts.StsClient;
-import software.amazon.awssdk.services.sts.model.GetCallerIdentityResponse;
 
 import java.util.Date;
 import java.util.HashSet;
@@ -153,9 +151,7 @@ public class AcmPcaPermission extends AwsResource implements Copyable<Permission
     }
 
     private String getAccountNumber() {
-        StsClient client = createClient(StsClient.class);
-        GetCallerIdentityResponse response = client.getCallerIdentity();
-        return response.account();
+        return accountIdentity().getAccount();
     }
 
     private String getParent() {
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026, Brightspot.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package gyro.aws.autoscaling;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.MapMaker;
+import software.amazon.awssdk.services.autoscaling.AutoScalingClient;
+import software.amazon.awssdk.services.autoscaling.model.AutoScalingGroup;
+import software.amazon.awssdk.services.autoscaling.model.ScalingPolicy;
+import software.amazon.awssdk.services.autoscaling.model.ScheduledUpdateGroupAction;
+
+/**
+ * Resolves the refresh of many Auto Scaling groups at once, shared by every {@link AutoScalingGroupResource} in a run.
+ * The first refresh describes the requested group together with every other pending one, up to
+ * {@link #DESCRIBE_NAMES_MAX} names per call. Scaling policies and scheduled actions are listed once for the whole
+ * account and region, and then looked up by group name.
+ */
+final class AutoScalingGroupBatch {
+
+    static final int DESCRIBE_NAMES_MAX = 100;
+
+    private static final Map<AutoScalingClient, AutoScalingGroupBatch> batches = new MapMaker().weakKeys().makeMap();
+
+    private final AutoScalingClient client;
+    private final Map<String, AutoScalingGroup> groups = new HashMap<>();
+    private final Set<String> missing = new HashSet<>();
+    private final Object policiesLock = new Object();
+    private final Object scheduledActionsLock = new Object();
+    private Map<String, List<ScalingPolicy>> policies;
+    private Map<String, List<ScheduledUpdateGroupAction>> scheduledActions;
+
+    private AutoScalingGroupBatch(AutoScalingClient client) {
+        this.client = client;
+    }
+
+    static AutoScalingGroupBatch get(AutoScalingClient client) {
+        AutoScalingGroupBatch batch = batches.get(client);
+
+        if (batch == null) {
+            batch = batches.computeIfAbsent(client, AutoScalingGroupBatch::new);
+        }
+
+        return batch;
+    }
+
+    /**
+     * Drops everything loaded for the client after a group, or one of its policies or scheduled actions, has been
+     * created, changed or deleted so that the next refresh reads it again.
+     */
+    static void invalidate(AutoScalingClient client) {
+        batches.remove(client);
+    }
+
+    /**
+     * Returns the group, or {@code null} if it doesn't exist, loading it along with the other pending names that
+     * haven't been loaded yet. The pending names are only looked up when the group has to be loaded.
+     */
+    synchronized AutoScalingGroup group(String name, Supplier<? extends Collection<String>> pending) {
+        if (!groups.containsKey(name) && !missing.contains(name)) {
+            Set<String> names = new LinkedHashSet<>();
+
+            names.add(name);
+
+            for (String p : pending.get()) {
+                if (p != null && !groups.containsKey(p) && !missing.contains(p)) {
+                    names.add(p);
+                }
+            }
+
+            for (List<String> chunk : Lists.partition(new ArrayList<>(names), DESCRIBE_NAMES_MAX)) {
+                client.describeAutoScalingGroupsPaginator(r -> r.autoScalingGroupNames(chunk)
+                    .maxRecords(DESCRIBE_NAMES_MAX))
+                    .autoScalingGroups()
+                    .forEach(g -> groups.put(g.autoScalingGroupName(), g));
+            }
+
+            for (String n : names) {
+                if (!groups.containsKey(n)) {
+                    missing.add(n);
+                }
+            }
+        }
+
+        return groups.get(name);
+    }
+
+    List<ScalingPolicy> policies(String name) {
+        synchronized (policiesLock) {
+            if (policies == null) {
+                Map<String, List<ScalingPolicy>> byGroup = new HashMap<>();
+
+                client.describePoliciesPaginator()
+                    .scalingPolicies()
+                    .forEach(p -> byGroup.computeIfAbsent(p.autoScalingGroupName(), n -> new ArrayList<>()).add(p));
+
+                policies = byGroup;
+            }
+
+            return policies.getOrDefault(name, Collections.emptyList());
+        }
+    }
+
+    List<ScheduledUpdateGroupAction> scheduledActions(String name) {
+        synchronized (scheduledActionsLock) {
+            if (scheduledActions == null) {
+                Map<String, List<ScheduledUpdateGroupAction>> byGroup = new HashMap<>();
+
+                client.describeScheduledActionsPaginator()
+                    .scheduledUpdateGroupActions()
+                    .forEach(a -> byGroup.computeIfAbsent(a.autoScalingGroupName(), n -> new ArrayList<>()).add(a));
+
+                scheduledActions = byGroup;
+            }
+
+            return scheduledActions.getOrDefault(name, Collections.emptyList());
+        }
+    }
+}
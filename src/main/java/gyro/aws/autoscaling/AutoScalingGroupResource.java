@@ -29,6 +29,7 @@ import java.util.stream.Collectors;
 
 import com.psddev.dari.util.ObjectUtils;
 import com.psddev.dari.util.StringUtils;
+import gyro.aws.AwsParallel;
 import gyro.aws.AwsResource;
 import gyro.aws.Copyable;
 import gyro.aws.ec2.InstanceResource;
@@ -56,8 +57,6 @@ import software.amazon.awssdk.services.autoscaling.model.AutoScalingGroup;
 import software.amazon.awssdk.services.autoscaling.model.DescribeAutoScalingGroupsResponse;
 import software.amazon.awssdk.services.autoscaling.model.DescribeLifecycleHooksResponse;
 import software.amazon.awssdk.services.autoscaling.model.DescribeNotificationConfigurationsResponse;
-import software.amazon.awssdk.services.autoscaling.model.DescribePoliciesResponse;
-import software.amazon.awssdk.services.autoscaling.model.DescribeScheduledActionsResponse;
 import software.amazon.awssdk.services.autoscaling.model.EnabledMetric;
 import software.amazon.awssdk.services.autoscaling.model.LaunchTemplateSpecification;
 import software.amazon.awssdk.services.autoscaling.model.LifecycleHook;
@@ -123,6 +122,8 @@ import software.amazon.awssdk.services.ec2.model.Reservation;
 @Type("autoscaling-group")
 public class AutoScalingGroupResource extends AwsResource implements GyroInstances, Copyable<AutoScalingGroup> {
 
+    private static final int AUTOSCALING_LOAD_CONCURRENCY = 16;
+
     private String name;
     private Boolean capacityRebalance;
     private LaunchTemplateResource launchTemplate;
@@ -691,17 +692,30 @@ public class AutoScalingGroupResource extends AwsResource implements GyroInstanc
 
         loadMetrics(autoScalingGroup.enabledMetrics());
         loadTags(autoScalingGroup.tags());
+
         loadScalingPolicy(client);
-        loadLifecycleHook(client);
         loadScheduledAction(client);
-        loadNotification(client);
+
+        AwsParallel.load(
+            AwsParallel.budget("autoscaling", AUTOSCALING_LOAD_CONCURRENCY),
+            () -> loadLifecycleHook(client),
+            () -> loadNotification(client));
     }
 
     @Override
     public boolean refresh() {
         AutoScalingClient client = createClient(AutoScalingClient.class);
 
-        AutoScalingGroup autoScalingGroup = getAutoScalingGroup(client);
+        if (ObjectUtils.isBlank(getName())) {
+            throw new GyroException("auto-scale-group-name is missing, unable to load auto scale group.");
+        }
+
+        AutoScalingGroup autoScalingGroup = AutoScalingGroupBatch.get(client).group(
+            getName(),
+            () -> findByClass(AutoScalingGroupResource.class)
+                .filter(r -> r.createClient(AutoScalingClient.class) == client)
+                .map(AutoScalingGroupResource::getName)
+                .collect(Collectors.toList()));
 
         if (autoScalingGroup == null) {
             return false;
@@ -757,6 +771,8 @@ public class AutoScalingGroupResource extends AwsResource implements GyroInstanc
             .terminationPolicies(getTerminationPolicies())
         );
 
+        AutoScalingGroupBatch.invalidate(client);
+
         AutoScalingGroup autoScalingGroup = getAutoScalingGroup(client);
 
         if (autoScalingGroup != null) {
@@ -796,6 +812,8 @@ public class AutoScalingGroupResource extends AwsResource implements GyroInstanc
             .terminationPolicies(getTerminationPolicies())
         );
 
+        AutoScalingGroupBatch.invalidate(client);
+
         if (changedFieldNames.contains("enable-metrics-collection") || changedFieldNames.contains("disabled-metrics")) {
             if (getEnableMetricsCollection()) {
                 saveMetrics(client);
@@ -834,6 +852,8 @@ public class AutoScalingGroupResource extends AwsResource implements GyroInstanc
 
         // have option of graceful delete with configurable timeouts.
         client.deleteAutoScalingGroup(r -> r.autoScalingGroupName(getName()).forceDelete(true));
+
+        AutoScalingGroupBatch.invalidate(client);
     }
 
     @Override
@@ -972,53 +992,54 @@ public class AutoScalingGroupResource extends AwsResource implements GyroInstanc
     private void loadScalingPolicy(AutoScalingClient client) {
         getScalingPolicy().clear();
 
-        DescribePoliciesResponse policyResponse = client.describePolicies(r -> r.autoScalingGroupName(getName()));
-
-        for (ScalingPolicy scalingPolicy : policyResponse.scalingPolicies()) {
+        for (ScalingPolicy scalingPolicy : AutoScalingGroupBatch.get(client).policies(getName())) {
             AutoScalingPolicyResource autoScalingPolicyResource = newSubresource(AutoScalingPolicyResource.class);
             autoScalingPolicyResource.copyFrom(scalingPolicy);
             getScalingPolicy().add(autoScalingPolicyResource);
         }
     }
 
-    private void loadLifecycleHook(AutoScalingClient client) {
-        getLifecycleHook().clear();
-
+    private Runnable loadLifecycleHook(AutoScalingClient client) {
         DescribeLifecycleHooksResponse lifecycleHooksResponse = client.describeLifecycleHooks(r -> r.autoScalingGroupName(getName()));
 
-        for (LifecycleHook lifecycleHook : lifecycleHooksResponse.lifecycleHooks()) {
-            AutoScalingGroupLifecycleHookResource lifecycleHookResource = newSubresource(AutoScalingGroupLifecycleHookResource.class);
-            lifecycleHookResource.copyFrom(lifecycleHook);
-            getLifecycleHook().add(lifecycleHookResource);
-        }
+        return () -> {
+            getLifecycleHook().clear();
+
+            for (LifecycleHook lifecycleHook : lifecycleHooksResponse.lifecycleHooks()) {
+                AutoScalingGroupLifecycleHookResource lifecycleHookResource = newSubresource(AutoScalingGroupLifecycleHookResource.class);
+                lifecycleHookResource.copyFrom(lifecycleHook);
+                getLifecycleHook().add(lifecycleHookResource);
+            }
+        };
     }
 
     private void loadScheduledAction(AutoScalingClient client) {
         getScheduledAction().clear();
 
-        DescribeScheduledActionsResponse scheduledActionsResponse = client.describeScheduledActions(
-            r -> r.autoScalingGroupName(getName())
-        );
+        List<ScheduledUpdateGroupAction> scheduledUpdateGroupActions = AutoScalingGroupBatch.get(client)
+            .scheduledActions(getName());
 
-        for (ScheduledUpdateGroupAction scheduledUpdateGroupAction : scheduledActionsResponse.scheduledUpdateGroupActions()) {
+        for (ScheduledUpdateGroupAction scheduledUpdateGroupAction : scheduledUpdateGroupActions) {
             AutoScalingGroupScheduledActionResource scheduledActionResource = newSubresource(AutoScalingGroupScheduledActionResource.class);
             scheduledActionResource.copyFrom(scheduledUpdateGroupAction);
             getScheduledAction().add(scheduledActionResource);
         }
     }
 
-    private void loadNotification(AutoScalingClient client) {
-        getAutoScalingNotification().clear();
-
+    private Runnable loadNotification(AutoScalingClient client) {
         DescribeNotificationConfigurationsResponse notificationResponse = client.describeNotificationConfigurations(
             r -> r.autoScalingGroupNames(Collections.singletonList(getName()))
         );
 
-        for (NotificationConfiguration notificationConfiguration : notificationResponse.notificationConfigurations()) {
-            AutoScalingGroupNotificationResource notificationResource = newSubresource(AutoScalingGroupNotificationResource.class);
-            notificationResource.copyFrom(notificationConfiguration);
-            getAutoScalingNotification().add(notificationResource);
-        }
+        return () -> {
+            getAutoScalingNotification().clear();
+
+            for (NotificationConfiguration notificationConfiguration : notificationResponse.notificationConfigurations()) {
+                AutoScalingGroupNotificationResource notificationResource = newSubresource(AutoScalingGroupNotificationResource.class);
+                notificationResource.copyFrom(notificationConfiguration);
+                getAutoScalingNotification().add(notificationResource);
+            }
+        };
     }
 
     private void saveLoadBalancerNames(AutoScalingClient client, Set<LoadBalancerResource> oldLoadBalancers) {
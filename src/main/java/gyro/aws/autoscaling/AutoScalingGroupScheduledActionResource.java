@@ -196,6 +196,8 @@ public class AutoScalingGroupScheduledActionResource extends AwsResource impleme
             r -> r.autoScalingGroupName(getParentId())
             .scheduledActionName(getScheduledActionName())
         );
+
+        AutoScalingGroupBatch.invalidate(client);
     }
 
     @Override
@@ -222,6 +224,8 @@ public class AutoScalingGroupScheduledActionResource extends AwsResource impleme
                 .startTime(getStartTime() != null ? getStartTime().toInstant() : null)
                 .endTime(getEndTime() != null ? getEndTime().toInstant() : null)
         );
+
+        AutoScalingGroupBatch.invalidate(client);
     }
 
     @Override
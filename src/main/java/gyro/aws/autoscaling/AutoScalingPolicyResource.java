@@ -335,6 +335,8 @@ public class AutoScalingPolicyResource extends AwsResource implements Copyable<S
             r -> r.autoScalingGroupName(getParentId())
                 .policyName(getPolicyName())
         );
+
+        AutoScalingGroupBatch.invalidate(client);
     }
 
     @Override
@@ -385,6 +387,8 @@ public class AutoScalingPolicyResource extends AwsResource implements Copyable<S
         if (response != null) {
             setPolicyArn(response.policyARN());
         }
+
+        AutoScalingGroupBatch.invalidate(client);
     }
 
     private String getParentId() {
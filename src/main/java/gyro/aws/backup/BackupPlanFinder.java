@@ -57,8 +57,11 @@ public class BackupPlanFinder extends AwsFinder<BackupClient, GetBackupPlanRespo
 
     @Override
     protected List<GetBackupPlanResponse> findAllAws(BackupClient client) {
-        return client.listBackupPlansPaginator().stream().flatMap(r -> r.backupPlansList().stream()
-            .map(p -> client.getBackupPlan(g -> g.backupPlanId(p.backupPlanId())))).collect(Collectors.toList());
+        return hydrate(
+            client.listBackupPlansPaginator().stream()
+                .flatMap(r -> r.backupPlansList().stream())
+                .collect(Collectors.toList()),
+            p -> client.getBackupPlan(g -> g.backupPlanId(p.backupPlanId())));
     }
 
     @Override
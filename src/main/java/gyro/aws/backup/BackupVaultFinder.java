@@ -56,9 +56,11 @@ public class BackupVaultFinder extends AwsFinder<BackupClient, DescribeBackupVau
 
     @Override
     protected List<DescribeBackupVaultResponse> findAllAws(BackupClient client) {
-        return client.listBackupVaultsPaginator().stream().flatMap(r -> r.backupVaultList().stream())
-            .map(v -> client.describeBackupVault(r -> r.backupVaultName(v.backupVaultName())))
-            .collect(Collectors.toList());
+        return hydrate(
+            client.listBackupVaultsPaginator().stream()
+                .flatMap(r -> r.backupVaultList().stream())
+                .collect(Collectors.toList()),
+            v -> client.describeBackupVault(r -> r.backupVaultName(v.backupVaultName())));
     }
 
     @Override
@@ -48,8 +48,6 @@ import software.amazon.awssdk.services.backup.model.CreateBackupVaultResponse;
 import software.amazon.awssdk.services.backup.model.DescribeBackupVaultResponse;
 import software.amazon.awssdk.services.backup.model.GetBackupVaultNotificationsResponse;
 import software.amazon.awssdk.services.backup.model.ResourceNotFoundException;
-import software.amazon.awssdk.services.sts.StsClient;
-import software.amazon.awssdk.services.sts.model.GetCallerIdentityResponse;
 import software.amazon.awssdk.utils.IoUtils;
 
 /**
@@ -324,8 +322,6 @@ public class BackupVaultResource extends AwsResource implements Copyable<Describ
     }
 
     private String getAccountNumber() {
-        StsClient client = createClient(StsClient.class);
-        GetCallerIdentityResponse response = client.getCallerIdentity();
-        return response.account();
+        return accountIdentity().getAccount();
     }
 }
@@ -30,10 +30,12 @@ import java.util.stream.Collectors;
 
 import com.psddev.dari.util.ObjectUtils;
 import gyro.aws.AwsResource;
+import gyro.aws.AwsWaiter;
 import gyro.aws.Copyable;
 import gyro.aws.waf.global.WebAclResource;
 import gyro.core.GyroException;
 import gyro.core.GyroUI;
+import gyro.core.TimeoutSettings;
 import gyro.core.Type;
 import gyro.core.Wait;
 import gyro.core.resource.Id;
@@ -684,21 +686,19 @@ public class CloudFrontResource extends AwsResource implements Copyable<Distribu
                 .id(getId())
                 .ifMatch(getEtag()));
 
-            boolean deploying = true;
-            do {
-                GetDistributionResponse response = client.getDistribution(r -> r.id(getId()));
-                setEtag(response.eTag());
-
-                if (response.distribution().status().equals("Deployed")) {
-                    deploying = false;
-                } else {
-                    try {
-                        Thread.sleep(60000);
-                    } catch (InterruptedException ie) {
-                        throw new GyroException(ie.getMessage());
-                    }
-                }
-            } while (deploying);
+            boolean deployed = AwsWaiter.profile(AwsWaiter.Profile.DISTRIBUTION)
+                .resourceOverrides(this, TimeoutSettings.Action.DELETE)
+                .prompt(true)
+                .until(() -> {
+                    GetDistributionResponse response = client.getDistribution(r -> r.id(getId()));
+                    setEtag(response.eTag());
+
+                    return "Deployed".equals(response.distribution().status());
+                });
+
+            if (!deployed) {
+                throw new GyroException("Unable to disable cloudfront distribution - " + getId());
+            }
         }
 
         client.deleteDistribution(r -> r.id(getId()).ifMatch(getEtag()));
@@ -17,7 +17,9 @@
 package gyro.aws.docdb;
 
 import com.psddev.dari.util.ObjectUtils;
+import gyro.aws.AwsCredentials;
 import gyro.aws.Copyable;
+import gyro.aws.ParameterCatalog;
 import gyro.core.GyroException;
 import gyro.core.GyroUI;
 import gyro.core.TimeoutSettings;
@@ -36,11 +38,14 @@ import software.amazon.awssdk.services.docdb.model.DBClusterParameterGroup;
 import software.amazon.awssdk.services.docdb.model.DbClusterParameterGroupNotFoundException;
 import software.amazon.awssdk.services.docdb.model.DbParameterGroupNotFoundException;
 import software.amazon.awssdk.services.docdb.model.DescribeDbClusterParameterGroupsResponse;
-import software.amazon.awssdk.services.docdb.model.DescribeDbClusterParametersResponse;
+import software.amazon.awssdk.services.docdb.model.EngineDefaults;
 import software.amazon.awssdk.services.docdb.model.Parameter;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
@@ -65,6 +70,8 @@ import java.util.concurrent.TimeUnit;
 @Type("docdb-cluster-param-group")
 public class DbClusterParameterGroupResource extends DocDbTaggableResource implements Copyable<DBClusterParameterGroup> {
 
+    private static final List<String> MANAGED_PARAMETERS = Arrays.asList("audit_logs", "tls", "ttl_monitor");
+
     private String name;
     private String dbParamGroupFamily;
     private String description;
@@ -260,67 +267,94 @@ public class DbClusterParameterGroupResource extends DocDbTaggableResource imple
         setDbParamGroupFamily(dbClusterParameterGroup.dbParameterGroupFamily());
         setDescription(dbClusterParameterGroup.description());
 
-        DescribeDbClusterParametersResponse response = client.describeDBClusterParameters(
-            r -> r.dbClusterParameterGroupName(getName())
-        );
+        // Only the parameters set on the group by the user or by AWS, the rest still have their engine defaults.
+        Map<String, String> values = new HashMap<>();
+
+        for (String source : Arrays.asList("user", "system")) {
+            client.describeDBClusterParameters(r -> r.dbClusterParameterGroupName(getName()).source(source))
+                .parameters()
+                .forEach(p -> values.put(p.parameterName(), p.parameterValue()));
+        }
+
+        if (!values.keySet().containsAll(MANAGED_PARAMETERS)) {
+            ParameterCatalog catalog = catalog(client);
 
-        for (Parameter parameter : response.parameters()) {
-            switch (parameter.parameterName()) {
-                case "audit_logs":
-                    setEnableAuditLogs(parameter.parameterValue().equalsIgnoreCase("enabled"));
-                    break;
-                case "tls":
-                    setEnableTls(parameter.parameterValue().equalsIgnoreCase("enabled"));
-                    break;
-                case "ttl_monitor":
-                    setEnableTtlMonitor(parameter.parameterValue().equalsIgnoreCase("enabled"));
-                    break;
+            for (String name : MANAGED_PARAMETERS) {
+                ParameterCatalog.Entry entry = catalog.get(name);
+
+                if (entry != null && entry.getValue() != null) {
+                    values.putIfAbsent(name, entry.getValue());
+                }
             }
         }
+
+        if (values.containsKey("audit_logs")) {
+            setEnableAuditLogs(values.get("audit_logs").equalsIgnoreCase("enabled"));
+        }
+
+        if (values.containsKey("tls")) {
+            setEnableTls(values.get("tls").equalsIgnoreCase("enabled"));
+        }
+
+        if (values.containsKey("ttl_monitor")) {
+            setEnableTtlMonitor(values.get("ttl_monitor").equalsIgnoreCase("enabled"));
+        }
     }
 
     private void saveParameters(DocDbClient client) {
-        DescribeDbClusterParametersResponse response = client.describeDBClusterParameters(
-            r -> r.dbClusterParameterGroupName(getName())
-        );
-
+        ParameterCatalog catalog = catalog(client);
         List<Parameter> parameters = new ArrayList<>();
 
-        for (Parameter parameter : response.parameters()) {
-            switch (parameter.parameterName()) {
-                case "audit_logs":
-                    parameters.add(getModifiedParam(parameter, getEnableAuditLogs()));
-                    break;
-                case "tls":
-                    parameters.add(getModifiedParam(parameter, getEnableTls()));
-                    break;
-                case "ttl_monitor":
-                    parameters.add(getModifiedParam(parameter, getEnableTtlMonitor()));
-                    break;
-                default:
-                    parameters.add(parameter);
-                    break;
-            }
-        }
+        addParameter(parameters, catalog.get("audit_logs"), getEnableAuditLogs());
+        addParameter(parameters, catalog.get("tls"), getEnableTls());
+        addParameter(parameters, catalog.get("ttl_monitor"), getEnableTtlMonitor());
 
-        client.modifyDBClusterParameterGroup(
-            r -> r.dbClusterParameterGroupName(getName())
-                .parameters(parameters)
-        );
+        if (!parameters.isEmpty()) {
+            client.modifyDBClusterParameterGroup(
+                r -> r.dbClusterParameterGroupName(getName())
+                    .parameters(parameters)
+            );
+        }
     }
 
-    private Parameter getModifiedParam(Parameter parameter, boolean isEnabled) {
-        return Parameter.builder()
-            .allowedValues(parameter.allowedValues())
-            .applyMethod(parameter.applyMethod())
-            .applyType(parameter.applyType())
-            .dataType(parameter.dataType())
-            .isModifiable(parameter.isModifiable())
-            .minimumEngineVersion(parameter.minimumEngineVersion())
-            .parameterName(parameter.parameterName())
+    private void addParameter(List<Parameter> parameters, ParameterCatalog.Entry entry, boolean isEnabled) {
+        if (entry == null) {
+            return;
+        }
+
+        String applyMethod = entry.getApplyMethod();
+
+        // Engine defaults don't say how to apply a change, and static parameters only take effect after a reboot.
+        if (applyMethod == null) {
+            applyMethod = "static".equalsIgnoreCase(entry.getApplyType()) ? "pending-reboot" : "immediate";
+        }
+
+        parameters.add(Parameter.builder()
+            .allowedValues(entry.getAllowedValues())
+            .applyMethod(applyMethod)
+            .applyType(entry.getApplyType())
+            .dataType(entry.getDataType())
+            .isModifiable(entry.getModifiable())
+            .minimumEngineVersion(entry.getMinimumEngineVersion())
+            .parameterName(entry.getName())
             .parameterValue(isEnabled ? "enabled" : "disabled")
-            .source(parameter.source())
-            .build();
+            .source(entry.getSource())
+            .build());
+    }
+
+    private ParameterCatalog catalog(DocDbClient client) {
+        String family = getDbParamGroupFamily();
+
+        return ParameterCatalog.get(
+            "docdb-cluster",
+            credentials(AwsCredentials.class).getRegion(),
+            family,
+            () -> ParameterCatalog.pages(
+                m -> client.describeEngineDefaultClusterParameters(r -> r.dbParameterGroupFamily(family).marker(m))
+                    .engineDefaults(),
+                EngineDefaults::parameters,
+                EngineDefaults::marker,
+                ParameterCatalog.Entry::of));
     }
 
     private DBClusterParameterGroup getDbClusterParameterGroup(DocDbClient client) {
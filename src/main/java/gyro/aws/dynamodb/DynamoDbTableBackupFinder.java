@@ -68,9 +68,9 @@ public class DynamoDbTableBackupFinder
 
     @Override
     protected List<BackupDescription> findAllAws(DynamoDbClient client) {
-        return client.listBackups().backupSummaries().stream()
-            .map(t -> client.describeBackup(r -> r.backupArn(t.backupArn())).backupDescription())
-            .collect(Collectors.toList());
+        return hydrate(
+            client.listBackups().backupSummaries(),
+            t -> client.describeBackup(r -> r.backupArn(t.backupArn())).backupDescription());
     }
 
     @Override
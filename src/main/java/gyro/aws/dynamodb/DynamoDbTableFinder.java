@@ -55,9 +55,9 @@ public class DynamoDbTableFinder extends AwsFinder<DynamoDbClient, TableDescript
 
     @Override
     protected List<TableDescription> findAllAws(DynamoDbClient client) {
-        return client.listTablesPaginator().tableNames().stream()
-            .map(t -> client.describeTable(r -> r.tableName(t)).table())
-            .collect(Collectors.toList());
+        return hydrate(
+            client.listTablesPaginator().tableNames().stream().collect(Collectors.toList()),
+            t -> client.describeTable(r -> r.tableName(t)).table());
     }
 
     @Override
@@ -31,12 +31,12 @@ import java.util.stream.Collectors;
 import com.google.common.collect.MapDifference;
 import com.google.common.collect.Maps;
 import gyro.aws.AwsResource;
+import gyro.aws.AwsWaiter;
 import gyro.aws.Copyable;
 import gyro.core.GyroException;
 import gyro.core.GyroUI;
 import gyro.core.TimeoutSettings;
 import gyro.core.Type;
-import gyro.core.Wait;
 import gyro.core.resource.Id;
 import gyro.core.resource.Output;
 import gyro.core.resource.Resource;
@@ -492,7 +492,7 @@ public class DynamoDbTableResource extends AwsResource implements Copyable<Table
 
         CreateTableResponse table = client.createTable(builder.build());
 
-        waitForActive(5, 1, () -> tableActive(client), "ACTIVE", TimeoutSettings.Action.CREATE);
+        waitForActive(1, () -> tableActive(client), "ACTIVE", TimeoutSettings.Action.CREATE);
 
         copyFrom(table.tableDescription());
     }
@@ -515,7 +515,7 @@ public class DynamoDbTableResource extends AwsResource implements Copyable<Table
                     .delete(d -> d.indexName(delete.getName())).build()));
             state.save();
 
-            waitForActive(5, 1, () -> gsiDeleted(client, delete.getName()), "INDEX DELETED",
+            waitForActive(1, () -> gsiDeleted(client, delete.getName()), "INDEX DELETED",
                 TimeoutSettings.Action.UPDATE);
         }
 
@@ -554,9 +554,9 @@ public class DynamoDbTableResource extends AwsResource implements Copyable<Table
             client.updateTable(builder.build());
             state.save();
 
-            waitForActive(30, 30, () -> tableActive(client), "ACTIVE", TimeoutSettings.Action.UPDATE);
+            waitForActive(30, () -> tableActive(client), "ACTIVE", TimeoutSettings.Action.UPDATE);
             if (hasGsiUpdate) {
-                waitForActive(30, 10, () -> allGsiActive(client), "INDEX ACTIVE", TimeoutSettings.Action.UPDATE);
+                waitForActive(10, () -> allGsiActive(client), "INDEX ACTIVE", TimeoutSettings.Action.UPDATE);
             }
         }
 
@@ -569,7 +569,7 @@ public class DynamoDbTableResource extends AwsResource implements Copyable<Table
                     .create(add.toCreateGlobalSecondaryIndex()).build()));
             state.save();
 
-            waitForActive(30, 10, () -> allGsiActive(client), "INDEX ACTIVE", TimeoutSettings.Action.UPDATE);
+            waitForActive(10, () -> allGsiActive(client), "INDEX ACTIVE", TimeoutSettings.Action.UPDATE);
         }
 
         if (changedFieldNames.contains("server-side-encryption")) {
@@ -647,14 +647,13 @@ public class DynamoDbTableResource extends AwsResource implements Copyable<Table
         }
     }
 
-    private void waitForActive(
-        long interval, long duration, BooleanSupplier waitCheck, String state,
-        TimeoutSettings.Action action) {
-        boolean waitResult = Wait.atMost(duration, TimeUnit.MINUTES)
-            .checkEvery(interval, TimeUnit.SECONDS)
+    private void waitForActive(long duration, BooleanSupplier waitCheck, String state, TimeoutSettings.Action action) {
+        boolean waitResult = AwsWaiter.profile(AwsWaiter.Profile.QUICK)
+            .atMost(duration, TimeUnit.MINUTES)
             .resourceOverrides(this, action)
             .prompt(false)
-            .until(waitCheck::getAsBoolean);
+            .delayFirstProbe(action == TimeoutSettings.Action.UPDATE)
+            .until(waitCheck);
 
         if (!waitResult) {
             throw new GyroException(String.format(
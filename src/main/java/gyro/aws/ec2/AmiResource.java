@@ -268,7 +268,7 @@ public class AmiResource extends Ec2TaggableResource<Image> implements Copyable<
             }
         }
 
-        refreshTags();
+        refreshTags(image.tags());
     }
 
     @Override
@@ -268,7 +268,7 @@ public class CapacityReservationResource extends Ec2TaggableResource<CapacityRes
         setCreateDate(capacityReservation.createDate() != null ? Date.from(capacityReservation.createDate()) : null);
         setInstanceCount(capacityReservation.totalInstanceCount());
 
-        refreshTags();
+        refreshTags(capacityReservation.tags());
     }
 
     @Override
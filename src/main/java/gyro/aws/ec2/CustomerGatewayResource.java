@@ -126,7 +126,7 @@ public class CustomerGatewayResource extends Ec2TaggableResource<CustomerGateway
         setBgpAsn(!ObjectUtils.isBlank(customerGateway.bgpAsn()) ? Integer.parseInt(customerGateway.bgpAsn()) : null);
         setCertificate(findById(AcmCertificateResource.class, customerGateway.certificateArn()));
 
-        refreshTags();
+        refreshTags(customerGateway.tags());
     }
 
     @Override
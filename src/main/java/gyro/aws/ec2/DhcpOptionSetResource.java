@@ -184,7 +184,7 @@ public class DhcpOptionSetResource extends Ec2TaggableResource<DhcpOptions> impl
             }
         }
 
-        refreshTags();
+        refreshTags(dhcpOptions.tags());
     }
 
     @Override
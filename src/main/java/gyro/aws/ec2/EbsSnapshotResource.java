@@ -245,7 +245,7 @@ public class EbsSnapshotResource extends Ec2TaggableResource<Snapshot> implement
         setVolume(!ObjectUtils.isBlank(snapshot.volumeId())
             ? findById(EbsVolumeResource.class, snapshot.volumeId()) : null);
 
-        refreshTags();
+        refreshTags(snapshot.tags());
     }
 
     @Override
@@ -245,7 +245,7 @@ public class EbsVolumeResource extends Ec2TaggableResource<Volume> implements Co
 
         setAutoEnableIo(responseAutoEnableIo.autoEnableIO().value());
 
-        refreshTags();
+        refreshTags(volume.tags());
     }
 
     @Override
@@ -91,6 +91,23 @@ public abstract class Ec2TaggableResource<T> extends AwsResource {
         tagsLoaded = true;
     }
 
+    /**
+     * Refreshes the tags from the ones already included in a describe response, which avoids a DescribeTags call.
+     */
+    protected void refreshTags(List<Tag> tags) {
+        getTags().clear();
+
+        if (tags != null) {
+            for (Tag tag : tags) {
+                if (!tag.key().startsWith("aws:")) {
+                    getTags().put(tag.key(), tag.value());
+                }
+            }
+        }
+
+        tagsLoaded = true;
+    }
+
     private Map<String, String> loadTags() {
         Ec2Client client = createClient(Ec2Client.class);
 
@@ -116,7 +133,10 @@ public abstract class Ec2TaggableResource<T> extends AwsResource {
     public final boolean refresh() {
         boolean refreshed = doRefresh();
 
-        refreshTags();
+        // There are no tags to load for a resource that no longer exists.
+        if (refreshed) {
+            refreshTags();
+        }
 
         return refreshed;
     }
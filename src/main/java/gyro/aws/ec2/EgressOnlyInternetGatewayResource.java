@@ -92,6 +92,8 @@ public class EgressOnlyInternetGatewayResource extends Ec2TaggableResource<Egres
         if (!egressOnlyInternetGateway.attachments().isEmpty()) {
             setVpc(findById(VpcResource.class, egressOnlyInternetGateway.attachments().get(0).vpcId()));
         }
+
+        refreshTags(egressOnlyInternetGateway.tags());
     }
 
     @Override
@@ -194,7 +194,7 @@ public class ElasticIpResource extends Ec2TaggableResource<Address> implements C
             ? findById(InstanceResource.class, address.instanceId()) : null);
         setAssociationId(address.associationId());
 
-        refreshTags();
+        refreshTags(address.tags());
     }
 
     @Override
@@ -353,7 +353,7 @@ public class EndpointResource extends Ec2TaggableResource<VpcEndpoint> implement
             getDnsEntries().add(entry);
         }
 
-        refreshTags();
+        refreshTags(vpcEndpoint.tags());
     }
 
     @Override
@@ -269,7 +269,7 @@ public class EndpointServiceResource extends Ec2TaggableResource<ServiceConfigur
             getPrincipals().add(findById(RoleResource.class, allowedPrincipal.principal()));
         }
 
-        refreshTags();
+        refreshTags(serviceConfiguration.tags());
     }
 
     @Override
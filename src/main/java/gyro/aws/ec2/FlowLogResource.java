@@ -226,6 +226,8 @@ public class FlowLogResource extends Ec2TaggableResource implements Copyable<Flo
         } else {
             setNetworkInterface(findById(NetworkInterfaceResource.class, model.resourceId()));
         }
+
+        refreshTags(model.tags());
     }
 
     @Override
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2026, Brightspot.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package gyro.aws.ec2;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import com.google.common.collect.MapMaker;
+import gyro.aws.AwsParallel;
+
+/**
+ * Defers the instance attributes that aren't part of the DescribeInstances response until one of them is read. The
+ * first read loads the requesting instance together with up to {@link #BATCH_SIZE} other deferred instances, with
+ * {@link #PARALLELISM} requests in flight at a time. Only the API calls run on other threads; the results are applied
+ * to the resources by the thread that triggered the load.
+ */
+final class InstanceAttributeLoader {
+
+    static final int BATCH_SIZE = 50;
+    static final int PARALLELISM = 10;
+
+    private static final Object LOCK = new Object();
+    private static final Map<InstanceResource, CompletableFuture<Void>> deferred = new MapMaker().weakKeys().makeMap();
+    private static final Map<InstanceResource, CompletableFuture<Void>> loading = new MapMaker().weakKeys().makeMap();
+
+    private InstanceAttributeLoader() {
+    }
+
+    static void defer(InstanceResource instance) {
+        synchronized (LOCK) {
+            loading.remove(instance);
+            deferred.put(instance, new CompletableFuture<>());
+        }
+    }
+
+    static void await(InstanceResource instance) {
+        Map<InstanceResource, CompletableFuture<Void>> batch = new LinkedHashMap<>();
+        CompletableFuture<Void> future;
+
+        synchronized (LOCK) {
+            future = deferred.remove(instance);
+
+            if (future == null) {
+                future = loading.get(instance);
+
+                if (future == null) {
+                    return;
+                }
+
+            } else {
+                batch.put(instance, future);
+
+                Iterator<Map.Entry<InstanceResource, CompletableFuture<Void>>> i = deferred.entrySet().iterator();
+
+                while (i.hasNext() && batch.size() < BATCH_SIZE) {
+                    Map.Entry<InstanceResource, CompletableFuture<Void>> entry = i.next();
+
+                    batch.put(entry.getKey(), entry.getValue());
+                    i.remove();
+                }
+
+                loading.putAll(batch);
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            load(batch);
+        }
+
+        try {
+            future.join();
+
+        } catch (CompletionException error) {
+            Throwable cause = error.getCause();
+
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+
+            throw error;
+        }
+    }
+
+    /**
+     * Fetches the attributes of the batch concurrently, then applies them on the calling thread so that the resources
+     * are only ever modified by the thread that reads them.
+     */
+    private static void load(Map<InstanceResource, CompletableFuture<Void>> batch) {
+        List<Fetch> fetches = batch.entrySet().stream()
+            .map(e -> new Fetch(e.getKey(), e.getValue()))
+            .collect(Collectors.toList());
+
+        AwsParallel.map(fetches, PARALLELISM, fetch -> {
+            fetch.run();
+            return null;
+        });
+
+        for (Fetch fetch : fetches) {
+            if (fetch.error == null) {
+                fetch.instance.applyAttributes(fetch.attributes);
+
+                synchronized (LOCK) {
+                    loading.remove(fetch.instance);
+                }
+
+                fetch.future.complete(null);
+
+            } else {
+                synchronized (LOCK) {
+                    loading.remove(fetch.instance);
+                    deferred.put(fetch.instance, new CompletableFuture<>());
+                }
+
+                fetch.future.completeExceptionally(fetch.error);
+            }
+        }
+    }
+
+    static final class Attributes {
+
+        private final String shutdownBehavior;
+        private final boolean disableApiTermination;
+        private final String userData;
+
+        Attributes(String shutdownBehavior, boolean disableApiTermination, String userData) {
+            this.shutdownBehavior = shutdownBehavior;
+            this.disableApiTermination = disableApiTermination;
+            this.userData = userData;
+        }
+
+        String getShutdownBehavior() {
+            return shutdownBehavior;
+        }
+
+        boolean getDisableApiTermination() {
+            return disableApiTermination;
+        }
+
+        String getUserData() {
+            return userData;
+        }
+    }
+
+    private static final class Fetch {
+
+        private final InstanceResource instance;
+        private final CompletableFuture<Void> future;
+        private Supplier<Attributes> fetcher;
+        private Attributes attributes;
+        private RuntimeException error;
+
+        Fetch(InstanceResource instance, CompletableFuture<Void> future) {
+            this.instance = instance;
+            this.future = future;
+
+            try {
+                this.fetcher = instance.attributesFetcher();
+
+            } catch (RuntimeException error) {
+                this.error = error;
+            }
+        }
+
+        void run() {
+            if (error == null) {
+                try {
+                    attributes = fetcher.get();
+
+                } catch (RuntimeException error) {
+                    this.error = error;
+                }
+            }
+        }
+    }
+}
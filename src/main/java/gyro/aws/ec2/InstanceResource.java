@@ -17,16 +17,19 @@
 package gyro.aws.ec2;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import com.psddev.dari.util.ObjectUtils;
 import gyro.aws.AwsResource;
+import gyro.aws.AwsWaiter;
 import gyro.aws.Copyable;
 import gyro.aws.iam.InstanceProfileResource;
 import gyro.core.GyroException;
@@ -49,14 +52,12 @@ import software.amazon.awssdk.services.ec2.model.AttributeBooleanValue;
 import software.amazon.awssdk.services.ec2.model.CapacityReservationSpecification;
 import software.amazon.awssdk.services.ec2.model.DescribeInstanceAttributeResponse;
 import software.amazon.awssdk.services.ec2.model.DescribeInstancesResponse;
-import software.amazon.awssdk.services.ec2.model.DescribeNetworkInterfaceAttributeResponse;
 import software.amazon.awssdk.services.ec2.model.Ec2Exception;
 import software.amazon.awssdk.services.ec2.model.IamInstanceProfileSpecification;
 import software.amazon.awssdk.services.ec2.model.Instance;
 import software.amazon.awssdk.services.ec2.model.InstanceAttributeName;
 import software.amazon.awssdk.services.ec2.model.InstanceStateName;
 import software.amazon.awssdk.services.ec2.model.MonitoringState;
-import software.amazon.awssdk.services.ec2.model.NetworkInterfaceAttribute;
 import software.amazon.awssdk.services.ec2.model.RunInstancesRequest;
 import software.amazon.awssdk.services.ec2.model.RunInstancesResponse;
 import software.amazon.awssdk.services.ec2.model.ShutdownBehavior;
@@ -205,6 +206,8 @@ public class InstanceResource extends Ec2TaggableResource<Instance> implements G
     @Updatable
     @ValidStrings({ "stop", "terminate" })
     public String getShutdownBehavior() {
+        InstanceAttributeLoader.await(this);
+
         return shutdownBehavior != null ? shutdownBehavior.toLowerCase() : ShutdownBehavior.STOP.toString();
     }
 
@@ -281,6 +284,8 @@ public class InstanceResource extends Ec2TaggableResource<Instance> implements G
      */
     @Updatable
     public Boolean getDisableApiTermination() {
+        InstanceAttributeLoader.await(this);
+
         if (disableApiTermination == null) {
             disableApiTermination = false;
         }
@@ -312,6 +317,8 @@ public class InstanceResource extends Ec2TaggableResource<Instance> implements G
      */
     @Updatable
     public String getUserData() {
+        InstanceAttributeLoader.await(this);
+
         if (userData == null) {
             userData = "";
         } else {
@@ -531,9 +538,8 @@ public class InstanceResource extends Ec2TaggableResource<Instance> implements G
 
     @Override
     public void copyFrom(Instance instance) {
-        Ec2Client client = createClient(Ec2Client.class);
         setId(instance.instanceId());
-        init(instance, client);
+        init(instance);
     }
 
     @Override
@@ -608,11 +614,14 @@ public class InstanceResource extends Ec2TaggableResource<Instance> implements G
 
         state.save();
 
-        boolean waitResult = Wait.atMost(3, TimeUnit.MINUTES)
-            .prompt(false)
-            .checkEvery(10, TimeUnit.SECONDS)
+        boolean waitResult = AwsWaiter.profile(AwsWaiter.Profile.INSTANCE)
+            .atMost(3, TimeUnit.MINUTES)
             .resourceOverrides(this, TimeoutSettings.Action.CREATE)
-            .until(() -> isInstanceRunning(client));
+            .prompt(false)
+            .untilState(
+                () -> getInstanceState(client),
+                Collections.singleton("running"),
+                Arrays.asList("shutting-down", "terminated"));
 
         if (!waitResult) {
             throw new GyroException("Unable to reach 'running' state for ec2 instance - " + getGyroInstanceId());
@@ -675,11 +684,14 @@ public class InstanceResource extends Ec2TaggableResource<Instance> implements G
                     .force(true)
             );
 
-            Wait.atMost(3, TimeUnit.MINUTES)
-                .checkEvery(10, TimeUnit.SECONDS)
+            AwsWaiter.profile(AwsWaiter.Profile.INSTANCE)
+                .atMost(3, TimeUnit.MINUTES)
                 .resourceOverrides(this, TimeoutSettings.Action.UPDATE)
                 .prompt(false)
-                .until(() -> isInstanceStopped(client));
+                .untilState(
+                    () -> getInstanceState(client),
+                    Collections.singleton("stopped"),
+                    Arrays.asList("shutting-down", "terminated"));
         }
 
         boolean instanceStopped = isInstanceStopped(client);
@@ -721,11 +733,14 @@ public class InstanceResource extends Ec2TaggableResource<Instance> implements G
                 r -> r.instanceIds(getId())
             );
 
-            Wait.atMost(3, TimeUnit.MINUTES)
-                .checkEvery(10, TimeUnit.SECONDS)
+            AwsWaiter.profile(AwsWaiter.Profile.INSTANCE)
+                .atMost(3, TimeUnit.MINUTES)
                 .resourceOverrides(this, TimeoutSettings.Action.UPDATE)
                 .prompt(false)
-                .until(() -> isInstanceRunning(client));
+                .untilState(
+                    () -> getInstanceState(client),
+                    Collections.singleton("running"),
+                    Arrays.asList("shutting-down", "terminated"));
         }
     }
 
@@ -739,14 +754,14 @@ public class InstanceResource extends Ec2TaggableResource<Instance> implements G
 
         client.terminateInstances(r -> r.instanceIds(Collections.singletonList(getId())));
 
-        Wait.atMost(2, TimeUnit.MINUTES)
-            .checkEvery(10, TimeUnit.SECONDS)
+        AwsWaiter.profile(AwsWaiter.Profile.INSTANCE)
+            .atMost(2, TimeUnit.MINUTES)
             .resourceOverrides(this, TimeoutSettings.Action.DELETE)
             .prompt(true)
-            .until(() -> isInstanceTerminated(client));
+            .until(() -> "terminated".equals(getInstanceState(client)));
     }
 
-    private void init(Instance instance, Ec2Client client) {
+    private void init(Instance instance) {
         setAmi(findById(AmiResource.class, instance.imageId()));
         setCoreCount(instance.cpuOptions().coreCount());
         setThreadPerCore(instance.cpuOptions().threadsPerCore());
@@ -772,31 +787,50 @@ public class InstanceResource extends Ec2TaggableResource<Instance> implements G
             );
         }
 
-        DescribeInstanceAttributeResponse attributeResponse = client.describeInstanceAttribute(
-            r -> r.instanceId(getId()).attribute(InstanceAttributeName.INSTANCE_INITIATED_SHUTDOWN_BEHAVIOR)
-        );
-        setShutdownBehavior(attributeResponse.instanceInitiatedShutdownBehavior().value());
+        setSourceDestCheck(instance.sourceDestCheck());
 
-        attributeResponse = client.describeInstanceAttribute(
-            r -> r.instanceId(getId()).attribute(InstanceAttributeName.DISABLE_API_TERMINATION)
-        );
-        setDisableApiTermination(attributeResponse.disableApiTermination().equals(AttributeBooleanValue.builder().value(true).build()));
+        InstanceAttributeLoader.defer(this);
 
-        DescribeNetworkInterfaceAttributeResponse response = client.describeNetworkInterfaceAttribute(
-            r -> r.networkInterfaceId(instance.networkInterfaces().get(0).networkInterfaceId())
-                .attribute(NetworkInterfaceAttribute.SOURCE_DEST_CHECK)
-        );
-        setSourceDestCheck(response.sourceDestCheck().value());
+        setStatus("running".equals(instance.state().nameAsString()) ? "running" : "stopped");
 
-        attributeResponse = client.describeInstanceAttribute(
-            r -> r.instanceId(getId()).attribute(InstanceAttributeName.USER_DATA)
-        );
-        setUserData(attributeResponse.userData().value() == null
-            ? "" : new String(Base64.decodeBase64(attributeResponse.userData().value())).trim());
+        refreshTags(instance.tags());
+    }
 
-        setStatus("running".equals(instance.state().nameAsString()) ? "running" : "stopped");
+    /**
+     * Returns a call that fetches the attributes that aren't included in the DescribeInstances response. The call
+     * doesn't touch this resource, so {@link InstanceAttributeLoader} can run it on another thread and apply the
+     * result with {@link #applyAttributes(InstanceAttributeLoader.Attributes)} on its own.
+     */
+    Supplier<InstanceAttributeLoader.Attributes> attributesFetcher() {
+        Ec2Client client = createClient(Ec2Client.class);
+        String instanceId = getId();
 
-        refreshTags();
+        return () -> {
+            DescribeInstanceAttributeResponse attributeResponse = client.describeInstanceAttribute(
+                r -> r.instanceId(instanceId).attribute(InstanceAttributeName.INSTANCE_INITIATED_SHUTDOWN_BEHAVIOR)
+            );
+            String shutdownBehavior = attributeResponse.instanceInitiatedShutdownBehavior().value();
+
+            attributeResponse = client.describeInstanceAttribute(
+                r -> r.instanceId(instanceId).attribute(InstanceAttributeName.DISABLE_API_TERMINATION)
+            );
+            boolean disableApiTermination = attributeResponse.disableApiTermination()
+                .equals(AttributeBooleanValue.builder().value(true).build());
+
+            attributeResponse = client.describeInstanceAttribute(
+                r -> r.instanceId(instanceId).attribute(InstanceAttributeName.USER_DATA)
+            );
+            String userData = attributeResponse.userData().value() == null
+                ? "" : new String(Base64.decodeBase64(attributeResponse.userData().value())).trim();
+
+            return new InstanceAttributeLoader.Attributes(shutdownBehavior, disableApiTermination, userData);
+        };
+    }
+
+    void applyAttributes(InstanceAttributeLoader.Attributes attributes) {
+        setShutdownBehavior(attributes.getShutdownBehavior());
+        setDisableApiTermination(attributes.getDisableApiTermination());
+        setUserData(attributes.getUserData());
     }
 
     @Override
@@ -852,22 +886,14 @@ public class InstanceResource extends Ec2TaggableResource<Instance> implements G
         return null;
     }
 
-    private boolean isInstanceRunning(Ec2Client client) {
-        Instance instance = getInstance(client);
-
-        return instance != null && "running".equals(instance.state().nameAsString());
-    }
-
     private boolean isInstanceStopped(Ec2Client client) {
-        Instance instance = getInstance(client);
-
-        return instance != null && "stopped".equals(instance.state().nameAsString());
+        return "stopped".equals(getInstanceState(client));
     }
 
-    private boolean isInstanceTerminated(Ec2Client client) {
+    private String getInstanceState(Ec2Client client) {
         Instance instance = getInstance(client);
 
-        return instance != null && "terminated".equals(instance.state().nameAsString());
+        return instance != null ? instance.state().nameAsString() : null;
     }
 
     private boolean validateInstanceStop(GyroUI ui, boolean instanceStopped, String param, String value) {
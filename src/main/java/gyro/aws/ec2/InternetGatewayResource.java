@@ -95,7 +95,7 @@ public class InternetGatewayResource extends Ec2TaggableResource<InternetGateway
             setVpc(null);
         }
 
-        refreshTags();
+        refreshTags(internetGateway.tags());
     }
 
     @Override
@@ -534,7 +534,7 @@ public class LaunchTemplateResource extends Ec2TaggableResource<LaunchTemplate>
         setName(launchTemplate.launchTemplateName());
         setVersion(launchTemplate.latestVersionNumber());
 
-        refreshTags();
+        refreshTags(launchTemplate.tags());
     }
 
     @Override
@@ -160,7 +160,7 @@ public class NatGatewayResource extends Ec2TaggableResource<NatGateway> implemen
             natGateway.natGatewayAddresses().get(0).allocationId() == null ? null :
             findById(ElasticIpResource.class, natGateway.natGatewayAddresses().get(0).allocationId()));
 
-        refreshTags();
+        refreshTags(natGateway.tags());
     }
 
     @Override
@@ -154,7 +154,7 @@ public class NetworkAclResource extends Ec2TaggableResource<NetworkAcl> implemen
             }
         }
 
-        refreshTags();
+        refreshTags(networkAcl.tags());
     }
 
     @Override
@@ -314,7 +314,7 @@ public class NetworkInterfaceResource extends Ec2TaggableResource<NetworkInterfa
             setDeleteOnTermination(attachment.deleteOnTermination());
         }
 
-        refreshTags();
+        refreshTags(networkInterface.tagSet());
     }
 
     @Override
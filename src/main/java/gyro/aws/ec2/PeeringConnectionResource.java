@@ -233,7 +233,7 @@ public class PeeringConnectionResource extends Ec2TaggableResource<VpcPeeringCon
         setPeerAllowEgressFromLocalVpcToRemoteClassicLink(vpcPeeringConnection.accepterVpcInfo()
             .peeringOptions().allowEgressFromLocalVpcToRemoteClassicLink());
 
-        refreshTags();
+        refreshTags(vpcPeeringConnection.tags());
     }
 
     @Override
@@ -125,7 +125,7 @@ public class PlacementGroupResource extends Ec2TaggableResource<PlacementGroup>
         setName(model.groupName());
         setPlacementStrategy(model.strategy());
         setPartitionCount(model.partitionCount());
-        refreshTags();
+        refreshTags(model.tags());
     }
 
     @Override
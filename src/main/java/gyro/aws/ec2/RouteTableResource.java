@@ -180,7 +180,7 @@ public class RouteTableResource extends Ec2TaggableResource<RouteTable> implemen
             getRoute().add(routeResource);
         }
 
-        refreshTags();
+        refreshTags(routeTable.tags());
     }
 
     @Override
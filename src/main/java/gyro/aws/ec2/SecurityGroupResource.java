@@ -134,7 +134,7 @@ public class SecurityGroupResource extends Ec2TaggableResource<SecurityGroup> im
         setOwnerId(group.ownerId());
         setDescription(group.description());
 
-        refreshTags();
+        refreshTags(group.tags());
     }
 
     @Override
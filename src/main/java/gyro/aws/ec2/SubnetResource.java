@@ -259,7 +259,7 @@ public class SubnetResource extends Ec2TaggableResource<Subnet> implements Copya
             setIpv6CidrBlock(subnet.ipv6CidrBlockAssociationSet().get(0).ipv6CidrBlock());
         }
 
-        refreshTags();
+        refreshTags(subnet.tags());
     }
 
     @Override
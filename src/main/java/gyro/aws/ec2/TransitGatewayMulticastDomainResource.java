@@ -218,7 +218,7 @@ public class TransitGatewayMulticastDomainResource extends Ec2TaggableResource<T
             getGroupSource().add(groupSourceResource);
         }
 
-        refreshTags();
+        refreshTags(model.tags());
     }
 
     @Override
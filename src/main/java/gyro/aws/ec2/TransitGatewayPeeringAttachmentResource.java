@@ -131,7 +131,7 @@ public class TransitGatewayPeeringAttachmentResource extends Ec2TaggableResource
         setPeerTransitGateway(findById(TransitGatewayResource.class, model.accepterTgwInfo().transitGatewayId()));
         setPeerRegion(model.accepterTgwInfo().region());
 
-        refreshTags();
+        refreshTags(model.tags());
     }
 
     @Override
@@ -266,7 +266,7 @@ public class TransitGatewayResource extends Ec2TaggableResource<TransitGateway>
         setPropagationDefaultRouteTableId(model.options().propagationDefaultRouteTableId());
 
         if (refreshTags) {
-            refreshTags();
+            refreshTags(model.tags());
         }
     }
 }
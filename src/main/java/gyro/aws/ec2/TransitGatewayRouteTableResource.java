@@ -197,7 +197,7 @@ public class TransitGatewayRouteTableResource extends Ec2TaggableResource<Transi
             getRoute().add(routeResource);
         }
 
-        refreshTags();
+        refreshTags(model.tags());
     }
 
     @Override
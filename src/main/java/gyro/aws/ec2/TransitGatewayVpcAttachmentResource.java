@@ -292,7 +292,7 @@ public class TransitGatewayVpcAttachmentResource extends Ec2TaggableResource<Tra
         }
 
         if (refreshTags) {
-            refreshTags();
+            refreshTags(model.tags());
         }
     }
 
@@ -51,8 +51,6 @@ import software.amazon.awssdk.services.ec2.model.ModifyVpcAttributeRequest;
 import software.amazon.awssdk.services.ec2.model.Vpc;
 import software.amazon.awssdk.services.ec2.model.VpcAttributeName;
 import software.amazon.awssdk.services.ec2.model.VpcClassicLink;
-import software.amazon.awssdk.services.sts.StsClient;
-import software.amazon.awssdk.services.sts.model.GetCallerIdentityResponse;
 
 /**
  * Creates a VPC with the specified IPv4 CIDR block.
@@ -331,7 +329,7 @@ public class VpcResource extends Ec2TaggableResource<Vpc> implements Copyable<Vp
         setRegion(credentials(AwsCredentials.class).getRegion());
         setAccount(getAccountNumber());
 
-        refreshTags();
+        refreshTags(vpc.tags());
     }
 
     @Override
@@ -498,9 +496,7 @@ public class VpcResource extends Ec2TaggableResource<Vpc> implements Copyable<Vp
     }
 
     private String getAccountNumber() {
-        StsClient client = createClient(StsClient.class);
-        GetCallerIdentityResponse response = client.getCallerIdentity();
-        return response.account();
+        return accountIdentity().getAccount();
     }
 
 }
@@ -150,7 +150,7 @@ public class VpnConnectionResource extends Ec2TaggableResource<VpnConnection> im
             setOptions(transitGatewayVpnConnectionOptions);
         }
 
-        refreshTags();
+        refreshTags(model.tags());
     }
 
     @Override
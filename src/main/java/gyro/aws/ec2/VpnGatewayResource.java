@@ -134,7 +134,7 @@ public class VpnGatewayResource extends Ec2TaggableResource<VpnGateway> implemen
             setVpc(null);
         }
 
-        refreshTags();
+        refreshTags(vpnGateway.tags());
     }
 
     @Override
@@ -17,14 +17,18 @@
 package gyro.aws.ecs;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import com.google.common.collect.Lists;
+import gyro.aws.AwsCredentials;
 import gyro.aws.AwsFinder;
+import gyro.aws.AwsParallel;
 import gyro.core.Type;
 import software.amazon.awssdk.services.ecs.EcsClient;
-import software.amazon.awssdk.services.ecs.model.DescribeServicesRequest;
+import software.amazon.awssdk.services.ecs.model.ClusterNotFoundException;
 import software.amazon.awssdk.services.ecs.model.Service;
 
 /**
@@ -40,6 +44,8 @@ import software.amazon.awssdk.services.ecs.model.Service;
 @Type("ecs-service")
 public class EcsServiceFinder extends AwsFinder<EcsClient, Service, EcsServiceResource> {
 
+    static final int DESCRIBE_SERVICES_MAX = 10;
+
     private String name;
     private String cluster;
 
@@ -67,45 +73,50 @@ public class EcsServiceFinder extends AwsFinder<EcsClient, Service, EcsServiceRe
 
     @Override
     protected List<Service> findAllAws(EcsClient client) {
-        List<Service> services = new ArrayList<>();
-        client.listClusters()
-            .clusterArns()
-            .forEach(c -> {
-                List<String> serviceArns = client.listServicesPaginator(r -> r.cluster(c))
-                    .serviceArns().stream().collect(Collectors.toList());
-                if (!serviceArns.isEmpty()) {
-                    services.addAll(client.describeServices(DescribeServicesRequest.builder()
-                        .cluster(c)
-                        .services(serviceArns)
-                        .build()).services());
-                }
-            });
-
-        return services;
+        return findServices(client, null, null);
     }
 
     @Override
     protected List<Service> findAws(EcsClient client, Map<String, String> filters) {
-        List<Service> services = new ArrayList<>();
-        client.listClustersPaginator()
-            .clusterArns()
+        return findServices(client, filters.get("cluster"), filters.get("name"));
+    }
+
+    private List<Service> findServices(EcsClient client, String cluster, String name) {
+        List<String> clusters = cluster != null
+            ? Collections.singletonList(cluster)
+            : client.listClustersPaginator().clusterArns().stream().collect(Collectors.toList());
+
+        return AwsParallel.map(
+            clusters,
+            credentials(AwsCredentials.class).getFinderParallelism(),
+            c -> describeServices(client, c, name))
             .stream()
-            .filter(c -> !(filters.containsKey("cluster") && !c.split("/")[c.split("/").length - 1]
-                .equals(filters.get("cluster"))))
-            .forEach(c -> {
-                List<String> serviceArns = client.listServicesPaginator(r -> r.cluster(c))
-                    .serviceArns().stream().collect(Collectors.toList());
-                if (!serviceArns.isEmpty()) {
-                    services.addAll(client.describeServices(DescribeServicesRequest.builder()
-                        .cluster(c)
-                        .services(serviceArns)
-                        .build())
-                        .services()
-                        .stream()
-                        .filter(s -> !(filters.containsKey("name") && !s.serviceName().equals(filters.get("name"))))
-                        .collect(Collectors.toList()));
-                }
-            });
+            .flatMap(List::stream)
+            .collect(Collectors.toList());
+    }
+
+    private static List<Service> describeServices(EcsClient client, String cluster, String name) {
+        List<Service> services = new ArrayList<>();
+
+        try {
+            List<String> serviceArns = name != null
+                ? Collections.singletonList(name)
+                : client.listServicesPaginator(r -> r.cluster(cluster))
+                    .serviceArns()
+                    .stream()
+                    .collect(Collectors.toList());
+
+            for (List<String> chunk : Lists.partition(serviceArns, DESCRIBE_SERVICES_MAX)) {
+                client.describeServices(r -> r.cluster(cluster).services(chunk))
+                    .services()
+                    .stream()
+                    .filter(s -> !"INACTIVE".equals(s.status()))
+                    .forEach(services::add);
+            }
+
+        } catch (ClusterNotFoundException ex) {
+            // ignore
+        }
 
         return services;
     }
@@ -24,12 +24,12 @@ import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import gyro.aws.AwsResource;
+import gyro.aws.AwsWaiter;
 import gyro.aws.Copyable;
 import gyro.aws.iam.RoleResource;
 import gyro.core.GyroUI;
 import gyro.core.TimeoutSettings;
 import gyro.core.Type;
-import gyro.core.Wait;
 import gyro.core.resource.Id;
 import gyro.core.resource.Output;
 import gyro.core.resource.Resource;
@@ -611,8 +611,8 @@ public class EcsServiceResource extends AwsResource
 
         copyFrom(response.service());
 
-        Wait.atMost(1, TimeUnit.MINUTES)
-            .checkEvery(10, TimeUnit.SECONDS)
+        AwsWaiter.profile(AwsWaiter.Profile.QUICK)
+            .atMost(1, TimeUnit.MINUTES)
             .resourceOverrides(this, TimeoutSettings.Action.CREATE)
             .prompt(false)
             .until(() -> isActive(client));
@@ -671,8 +671,8 @@ public class EcsServiceResource extends AwsResource
 
         client.updateService(builder.build());
 
-        Wait.atMost(1, TimeUnit.MINUTES)
-            .checkEvery(10, TimeUnit.SECONDS)
+        AwsWaiter.profile(AwsWaiter.Profile.QUICK)
+            .atMost(1, TimeUnit.MINUTES)
             .resourceOverrides(this, TimeoutSettings.Action.UPDATE)
             .prompt(false)
             .until(() -> isActive(client));
@@ -684,8 +684,8 @@ public class EcsServiceResource extends AwsResource
 
         client.deleteService(s -> s.cluster(getCluster().getClusterName()).service(getName()));
 
-        Wait.atMost(1, TimeUnit.MINUTES)
-            .checkEvery(10, TimeUnit.SECONDS)
+        AwsWaiter.profile(AwsWaiter.Profile.QUICK)
+            .atMost(1, TimeUnit.MINUTES)
             .resourceOverrides(this, TimeoutSettings.Action.DELETE)
             .prompt(false)
             .until(() -> isDeleted(client));
@@ -20,7 +20,6 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.stream.Collectors;
 
 import gyro.aws.AwsFinder;
@@ -85,8 +84,7 @@ public class EcsTaskDefinitionFinder extends AwsFinder<EcsClient, TaskDefinition
             .taskDefinitionArns().stream().collect(Collectors.toList());
 
         if (!taskDefinitionArns.isEmpty()) {
-            return taskDefinitionArns.stream().map(o -> getTaskDefinitionByIdentifier(client, o))
-                .filter(Objects::nonNull).collect(Collectors.toList());
+            return hydrate(taskDefinitionArns, o -> getTaskDefinitionByIdentifier(client, o));
 
         } else {
             return Collections.emptyList();
@@ -117,11 +115,11 @@ public class EcsTaskDefinitionFinder extends AwsFinder<EcsClient, TaskDefinition
                     }
 
                 } else {
-                    taskDefinitions = client.listTaskDefinitionsPaginator(r -> r.familyPrefix(filters.get("family")))
-                        .taskDefinitionArns().stream()
-                        .map(o -> getTaskDefinitionByIdentifier(client, o))
-                        .filter(Objects::nonNull)
-                        .collect(Collectors.toList());
+                    taskDefinitions = hydrate(
+                        client.listTaskDefinitionsPaginator(r -> r.familyPrefix(filters.get("family")))
+                            .taskDefinitionArns().stream()
+                            .collect(Collectors.toList()),
+                        o -> getTaskDefinitionByIdentifier(client, o));
                 }
 
             } else {
@@ -54,11 +54,9 @@ public class EksClusterFinder extends AwsFinder<EksClient, Cluster, EksClusterRe
 
     @Override
     protected List<Cluster> findAllAws(EksClient client) {
-        return client.listClustersPaginator()
-            .clusters()
-            .stream()
-            .map(s -> client.describeCluster(DescribeClusterRequest.builder().name(s).build()).cluster())
-            .collect(Collectors.toList());
+        return hydrate(
+            client.listClustersPaginator().clusters().stream().collect(Collectors.toList()),
+            s -> client.describeCluster(DescribeClusterRequest.builder().name(s).build()).cluster());
     }
 
     @Override
@@ -17,6 +17,8 @@
 package gyro.aws.eks;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -26,13 +28,13 @@ import java.util.stream.Collectors;
 
 import gyro.aws.AwsCredentials;
 import gyro.aws.AwsResource;
+import gyro.aws.AwsWaiter;
 import gyro.aws.Copyable;
 import gyro.aws.iam.RoleResource;
 import gyro.core.GyroException;
 import gyro.core.GyroUI;
 import gyro.core.TimeoutSettings;
 import gyro.core.Type;
-import gyro.core.Wait;
 import gyro.core.resource.Id;
 import gyro.core.resource.Output;
 import gyro.core.resource.Resource;
@@ -42,7 +44,6 @@ import gyro.core.validation.Required;
 import software.amazon.awssdk.services.eks.EksClient;
 import software.amazon.awssdk.services.eks.model.Addon;
 import software.amazon.awssdk.services.eks.model.Cluster;
-import software.amazon.awssdk.services.eks.model.ClusterStatus;
 import software.amazon.awssdk.services.eks.model.CreateClusterRequest;
 import software.amazon.awssdk.services.eks.model.CreateClusterResponse;
 import software.amazon.awssdk.services.eks.model.DeleteClusterRequest;
@@ -516,10 +517,10 @@ public class EksClusterResource extends AwsResource implements Copyable<Cluster>
 
         client.deleteCluster(DeleteClusterRequest.builder().name(getName()).build());
 
-        Wait.atMost(20, TimeUnit.MINUTES)
-            .prompt(false)
-            .checkEvery(30, TimeUnit.SECONDS)
+        AwsWaiter.profile(AwsWaiter.Profile.CLUSTER)
+            .atMost(20, TimeUnit.MINUTES)
             .resourceOverrides(this, TimeoutSettings.Action.DELETE)
+            .prompt(false)
             .until(() -> getCluster(client) == null);
     }
 
@@ -539,14 +540,18 @@ public class EksClusterResource extends AwsResource implements Copyable<Cluster>
     }
 
     private void waitForActiveStatus(EksClient client, TimeoutSettings.Action action) {
-        Wait.atMost(20, TimeUnit.MINUTES)
-            .checkEvery(30, TimeUnit.SECONDS)
+        AwsWaiter.profile(AwsWaiter.Profile.CLUSTER)
+            .atMost(20, TimeUnit.MINUTES)
             .resourceOverrides(this, action)
             .prompt(false)
-            .until(() -> {
-                Cluster cluster = getCluster(client);
-                return cluster != null && cluster.status().equals(ClusterStatus.ACTIVE);
-            });
+            .delayFirstProbe(action == TimeoutSettings.Action.UPDATE)
+            .untilState(
+                () -> {
+                    Cluster cluster = getCluster(client);
+                    return cluster != null ? cluster.statusAsString() : null;
+                },
+                Collections.singleton("ACTIVE"),
+                Arrays.asList("DELETING", "FAILED"));
     }
 
     private String getClusterNameFromArn() {
@@ -17,6 +17,7 @@
 package gyro.aws.eks;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -27,13 +28,13 @@ import java.util.stream.Collectors;
 
 import gyro.aws.AwsCredentials;
 import gyro.aws.AwsResource;
+import gyro.aws.AwsWaiter;
 import gyro.aws.Copyable;
 import gyro.aws.ec2.SubnetResource;
 import gyro.aws.iam.RoleResource;
 import gyro.core.GyroUI;
 import gyro.core.TimeoutSettings;
 import gyro.core.Type;
-import gyro.core.Wait;
 import gyro.core.resource.Id;
 import gyro.core.resource.Output;
 import gyro.core.resource.Resource;
@@ -59,8 +60,6 @@ import software.amazon.awssdk.services.eks.model.UpdateLabelsPayload;
 import software.amazon.awssdk.services.eks.model.UpdateNodegroupConfigRequest;
 import software.amazon.awssdk.services.eks.model.UpdateNodegroupVersionRequest;
 import software.amazon.awssdk.services.eks.model.UpdateTaintsPayload;
-import software.amazon.awssdk.services.sts.StsClient;
-import software.amazon.awssdk.services.sts.model.GetCallerIdentityResponse;
 
 /**
  * Creates an eks nodegroup.
@@ -591,10 +590,10 @@ public class EksNodegroupResource extends AwsResource implements Copyable<Nodegr
             .nodegroupName(getName())
             .build());
 
-        Wait.atMost(10, TimeUnit.MINUTES)
-            .prompt(false)
-            .checkEvery(30, TimeUnit.SECONDS)
+        AwsWaiter.profile(AwsWaiter.Profile.CLUSTER)
+            .atMost(10, TimeUnit.MINUTES)
             .resourceOverrides(this, TimeoutSettings.Action.DELETE)
+            .prompt(false)
             .until(() -> getNodegroup(client) == null);
     }
 
@@ -637,14 +636,18 @@ public class EksNodegroupResource extends AwsResource implements Copyable<Nodegr
     }
 
     private void waitForActiveState(EksClient client, TimeoutSettings.Action action) {
-        Wait.atMost(15, TimeUnit.MINUTES)
-            .prompt(false)
-            .checkEvery(30, TimeUnit.SECONDS)
+        AwsWaiter.profile(AwsWaiter.Profile.CLUSTER)
+            .atMost(15, TimeUnit.MINUTES)
             .resourceOverrides(this, action)
-            .until(() -> {
-                Nodegroup nodegroup = getNodegroup(client);
-                return nodegroup != null && nodegroup.status().equals(NodegroupStatus.ACTIVE);
-            });
+            .prompt(false)
+            .delayFirstProbe(action == TimeoutSettings.Action.UPDATE)
+            .untilState(
+                () -> {
+                    Nodegroup nodegroup = getNodegroup(client);
+                    return nodegroup != null ? nodegroup.statusAsString() : null;
+                },
+                Collections.singleton("ACTIVE"),
+                Collections.singleton("CREATE_FAILED"));
     }
 
     public String getRegion() {
@@ -653,8 +656,6 @@ public class EksNodegroupResource extends AwsResource implements Copyable<Nodegr
     }
 
     public String getOwnerId() {
-        StsClient client = createClient(StsClient.class);
-        GetCallerIdentityResponse response = client.getCallerIdentity();
-        return response.account();
+        return accountIdentity().getAccount();
     }
 }
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2026, Brightspot.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package gyro.aws.elbv2;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.google.common.collect.MapMaker;
+import gyro.aws.SiblingChanges;
+import gyro.core.diff.Create;
+import gyro.core.diff.Delete;
+import software.amazon.awssdk.services.elasticloadbalancingv2.ElasticLoadBalancingV2Client;
+import software.amazon.awssdk.services.elasticloadbalancingv2.model.TargetDescription;
+import software.amazon.awssdk.services.elasticloadbalancingv2.model.TargetGroupNotFoundException;
+import software.amazon.awssdk.services.elasticloadbalancingv2.model.TargetHealthDescription;
+
+/**
+ * The targets of every target group, read with a single {@code DescribeTargetHealth} per group per run and shared by
+ * all {@link TargetResource}s in it. Registrations and deregistrations are coalesced with {@link SiblingChanges}, in
+ * calls of up to {@link #MAX_TARGETS} targets.
+ */
+final class TargetGroupTargets {
+
+    static final int MAX_TARGETS = 100;
+
+    private static final Map<ElasticLoadBalancingV2Client, Map<String, List<TargetHealthDescription>>> snapshots =
+        new MapMaker().weakKeys().makeMap();
+
+    private TargetGroupTargets() {
+    }
+
+    /**
+     * Returns the health of the target in the group, or {@code null} if it isn't registered.
+     */
+    static TargetHealthDescription find(ElasticLoadBalancingV2Client client, TargetResource target) {
+        if (arn(target) == null) {
+            return null;
+        }
+
+        return snapshot(client, arn(target)).stream()
+            .filter(d -> d.target().id().equals(target.getId()) && Objects.equals(d.target().port(), target.getPort()))
+            .findFirst()
+            .orElse(null);
+    }
+
+    /**
+     * Registers the target along with its siblings in the same group that are being created, or deregisters it along
+     * with the ones being deleted if {@code isDelete} is set. Siblings whose id or port isn't resolved yet are left to
+     * send themselves. When a combined call fails, the targets in it are left to be sent one at a time so that each
+     * reports its own error.
+     */
+    static void save(
+        ElasticLoadBalancingV2Client client,
+        TargetResource target,
+        Stream<TargetResource> siblings,
+        boolean isDelete) {
+
+        String arn = arn(target);
+
+        boolean sent = SiblingChanges.send(
+            target,
+            siblings.filter(t -> arn != null && arn.equals(arn(t)) && isResolved(t)),
+            isDelete ? Delete.class::isInstance : Create.class::isInstance,
+            MAX_TARGETS,
+            targets -> send(
+                client,
+                arn,
+                targets.stream().map(TargetResource::toTarget).collect(Collectors.toList()),
+                isDelete));
+
+        if (sent) {
+            invalidate(client, arn);
+        }
+    }
+
+    // Described outside the map's locks so that a slow call doesn't hold up the snapshots of other target groups.
+    private static List<TargetHealthDescription> snapshot(ElasticLoadBalancingV2Client client, String targetGroupArn) {
+        Map<String, List<TargetHealthDescription>> snapshot = snapshots.computeIfAbsent(
+            client,
+            c -> new ConcurrentHashMap<>());
+
+        List<TargetHealthDescription> descriptions = snapshot.get(targetGroupArn);
+
+        if (descriptions == null) {
+            try {
+                descriptions = client.describeTargetHealth(r -> r.targetGroupArn(targetGroupArn))
+                    .targetHealthDescriptions();
+
+            } catch (TargetGroupNotFoundException ex) {
+                descriptions = Collections.emptyList();
+            }
+
+            List<TargetHealthDescription> existing = snapshot.putIfAbsent(targetGroupArn, descriptions);
+
+            if (existing != null) {
+                descriptions = existing;
+            }
+        }
+
+        return descriptions;
+    }
+
+    private static void invalidate(ElasticLoadBalancingV2Client client, String targetGroupArn) {
+        Map<String, List<TargetHealthDescription>> snapshot = snapshots.get(client);
+
+        if (snapshot != null && targetGroupArn != null) {
+            snapshot.remove(targetGroupArn);
+        }
+    }
+
+    private static void send(
+        ElasticLoadBalancingV2Client client,
+        String targetGroupArn,
+        List<TargetDescription> targets,
+        boolean isDelete) {
+
+        if (isDelete) {
+            client.deregisterTargets(r -> r.targetGroupArn(targetGroupArn).targets(targets));
+
+        } else {
+            client.registerTargets(r -> r.targetGroupArn(targetGroupArn).targets(targets));
+        }
+    }
+
+    /**
+     * Returns {@code true} if the target's id and port are known, which isn't the case for a sibling whose instance or
+     * IP hasn't been created yet in this run.
+     */
+    private static boolean isResolved(TargetResource target) {
+        return target.getId() != null && target.getPort() != null;
+    }
+
+    private static String arn(TargetResource target) {
+        return target.getTargetGroup() != null ? target.getTargetGroup().getArn() : null;
+    }
+}
@@ -25,10 +25,7 @@ import gyro.core.resource.Resource;
 import gyro.core.scope.State;
 import gyro.core.validation.Required;
 import software.amazon.awssdk.services.elasticloadbalancingv2.ElasticLoadBalancingV2Client;
-import software.amazon.awssdk.services.elasticloadbalancingv2.model.DescribeTargetHealthResponse;
-import software.amazon.awssdk.services.elasticloadbalancingv2.model.InvalidTargetException;
 import software.amazon.awssdk.services.elasticloadbalancingv2.model.TargetDescription;
-import software.amazon.awssdk.services.elasticloadbalancingv2.model.TargetHealth;
 import software.amazon.awssdk.services.elasticloadbalancingv2.model.TargetHealthDescription;
 import software.amazon.awssdk.services.elasticloadbalancingv2.model.TargetHealthStateEnum;
 
@@ -113,29 +110,23 @@ public class TargetResource extends AwsResource implements Copyable<TargetDescri
     public boolean refresh() {
         ElasticLoadBalancingV2Client client = createClient(ElasticLoadBalancingV2Client.class);
 
-        try {
-            DescribeTargetHealthResponse response = client.describeTargetHealth(r -> r.targets(toTarget())
-                    .targetGroupArn(getTargetGroup().getArn()));
+        TargetHealthDescription targetHealthDescription = TargetGroupTargets.find(client, this);
 
-            for (TargetHealthDescription targetHealthDescription : response.targetHealthDescriptions()) {
-                TargetHealth health = targetHealthDescription.targetHealth();
-                if (health.state() != TargetHealthStateEnum.DRAINING) {
-                    TargetDescription description = targetHealthDescription.target();
-                    this.copyFrom(description);
-                }
-            }
-
-            return true;
-        } catch (InvalidTargetException ex) {
+        if (targetHealthDescription == null) {
             return false;
         }
+
+        if (targetHealthDescription.targetHealth().state() != TargetHealthStateEnum.DRAINING) {
+            this.copyFrom(targetHealthDescription.target());
+        }
+
+        return true;
     }
 
     @Override
     public void create(GyroUI ui, State state) {
         ElasticLoadBalancingV2Client client = createClient(ElasticLoadBalancingV2Client.class);
-        client.registerTargets(r -> r.targets(toTarget())
-                                    .targetGroupArn(getTargetGroup().getArn()));
+        TargetGroupTargets.save(client, this, findByClass(TargetResource.class), false);
     }
 
     @Override
@@ -144,8 +135,7 @@ public class TargetResource extends AwsResource implements Copyable<TargetDescri
     @Override
     public void delete(GyroUI ui, State state) {
         ElasticLoadBalancingV2Client client = createClient(ElasticLoadBalancingV2Client.class);
-        client.deregisterTargets(r -> r.targets(toTarget())
-                                        .targetGroupArn(getTargetGroup().getArn()));
+        TargetGroupTargets.save(client, this, findByClass(TargetResource.class), true);
     }
 
     public TargetDescription toTarget() {
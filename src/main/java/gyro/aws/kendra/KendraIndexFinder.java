@@ -54,11 +54,12 @@ public class KendraIndexFinder extends AwsFinder<KendraClient, DescribeIndexResp
 
     @Override
     protected List<DescribeIndexResponse> findAllAws(KendraClient client) {
-        return client.listIndicesPaginator(ListIndicesRequest.builder().build())
-            .stream()
-            .flatMap(r -> r.indexConfigurationSummaryItems().stream())
-            .map(r -> client.describeIndex(i -> i.id(r.id())))
-            .collect(Collectors.toList());
+        return hydrate(
+            client.listIndicesPaginator(ListIndicesRequest.builder().build())
+                .stream()
+                .flatMap(r -> r.indexConfigurationSummaryItems().stream())
+                .collect(Collectors.toList()),
+            r -> client.describeIndex(i -> i.id(r.id())));
     }
 
     @Override
@@ -65,10 +65,8 @@ public class KmsKeyFinder extends AwsFinder<KmsClient, KeyMetadata, KmsKeyResour
 
     @Override
     protected List<KeyMetadata> findAllAws(KmsClient client) {
-        return client.listKeysPaginator().keys()
-            .stream()
-            .map(KeyListEntry::keyId)
-            .map(oo -> client.describeKey(s -> s.keyId(oo)).keyMetadata())
-            .collect(Collectors.toList());
+        return hydrate(
+            client.listKeysPaginator().keys().stream().map(KeyListEntry::keyId).collect(Collectors.toList()),
+            oo -> client.describeKey(s -> s.keyId(oo)).keyMetadata());
     }
 }
@@ -51,7 +51,6 @@ import gyro.core.validation.Range;
 import gyro.core.validation.Required;
 import gyro.core.validation.ValidStrings;
 import gyro.core.validation.ValidationError;
-import org.apache.commons.codec.digest.DigestUtils;
 import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.services.lambda.LambdaClient;
 import software.amazon.awssdk.services.lambda.model.AddPermissionRequest;
@@ -65,6 +64,7 @@ import software.amazon.awssdk.services.lambda.model.ListVersionsByFunctionRespon
 import software.amazon.awssdk.services.lambda.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.lambda.model.UpdateFunctionCodeRequest;
 import software.amazon.awssdk.services.lambda.model.UpdateFunctionCodeResponse;
+import software.amazon.awssdk.services.s3.S3Client;
 
 /**
  * Creates a lambda function.
@@ -98,6 +98,8 @@ public class FunctionResource extends AwsResource implements Copyable<FunctionCo
     private String s3Key;
     private String s3ObjectVersion;
     private String contentZipPath;
+    private String stagingBucket;
+    private String stagingKeyPrefix;
     private RoleResource role;
     private String runtime;
     private String handler;
@@ -204,6 +206,34 @@ public class FunctionResource extends AwsResource implements Copyable<FunctionCo
         this.contentZipPath = contentZipPath;
     }
 
+    /**
+     * The S3 bucket used to stage the zip file set in 'content-zip-path'. When set, the zip file is streamed to the bucket with a multipart upload and the Lambda Function is deployed from the staged object instead of sending the code inline, which removes the 50 MB inline limit. The bucket must be in the same region as the Lambda Function.
+     */
+    @Updatable
+    public String getStagingBucket() {
+        return stagingBucket;
+    }
+
+    public void setStagingBucket(String stagingBucket) {
+        this.stagingBucket = stagingBucket;
+    }
+
+    /**
+     * The key prefix for zip files staged in 'staging-bucket'. Staged objects are named after the SHA-256 hash of their content. Defaults to ``gyro-lambda-staging``.
+     */
+    @Updatable
+    public String getStagingKeyPrefix() {
+        if (stagingKeyPrefix == null) {
+            stagingKeyPrefix = ZipStaging.DEFAULT_KEY_PREFIX;
+        }
+
+        return stagingKeyPrefix;
+    }
+
+    public void setStagingKeyPrefix(String stagingKeyPrefix) {
+        this.stagingKeyPrefix = stagingKeyPrefix;
+    }
+
     /**
      * The IAM Role to be associated with this Lambda Function.
      */
@@ -614,7 +644,10 @@ public class FunctionResource extends AwsResource implements Copyable<FunctionCo
             .tags(getTags())
             .layers(getLambdaLayers().stream().map(LayerResource::getVersionArn).collect(Collectors.toSet()));
 
-        if (!ObjectUtils.isBlank(getContentZipPathRaw())) {
+        if (!ObjectUtils.isBlank(getContentZipPathRaw()) && !ObjectUtils.isBlank(getStagingBucket())) {
+            String stagedKey = stageZipFile();
+            builder = builder.code(c -> c.s3Bucket(getStagingBucket()).s3Key(stagedKey));
+        } else if (!ObjectUtils.isBlank(getContentZipPathRaw())) {
             builder = builder.code(c -> c.zipFile(getZipFile()));
         } else {
             builder =
@@ -712,6 +745,8 @@ public class FunctionResource extends AwsResource implements Copyable<FunctionCo
             changeSet.remove("reserved-concurrent-executions");
         }
 
+        changeSet.removeAll(Arrays.asList("staging-bucket", "staging-key-prefix"));
+
         if (changeSet.contains("s3-bucket") || changeSet.contains("s3-key") || changeSet.contains("s3-object-version")
             || changeSet.contains("content-zip-path") || changeSet.contains("file-hash")) {
 
@@ -722,6 +757,9 @@ public class FunctionResource extends AwsResource implements Copyable<FunctionCo
                 builder = builder.s3Bucket(getS3Bucket())
                     .s3Key(getS3Key())
                     .s3ObjectVersion(getS3ObjectVersion());
+            } else if (!ObjectUtils.isBlank(getStagingBucket())) {
+                builder = builder.s3Bucket(getStagingBucket())
+                    .s3Key(stageZipFile());
             } else {
                 builder = builder.zipFile(getZipFile());
             }
@@ -796,16 +834,17 @@ public class FunctionResource extends AwsResource implements Copyable<FunctionCo
         }
     }
 
-    private String getFileHashFromPath() {
-        String hash = "";
-        try (InputStream input = openInput(getContentZipPathRaw())) {
-            hash = DigestUtils.sha256Hex(input);
-
-        } catch (Exception ignore) {
-            // ignore
-        }
+    private String stageZipFile() {
+        return ZipStaging.stage(
+            createClient(S3Client.class),
+            getStagingBucket(),
+            getStagingKeyPrefix(),
+            getContentZipPathRaw(),
+            () -> openInput(getContentZipPathRaw()));
+    }
 
-        return hash;
+    private String getFileHashFromPath() {
+        return ZipContentHashes.sha256Hex(getContentZipPathRaw(), () -> openInput(getContentZipPathRaw()));
     }
 
     @Override
@@ -826,6 +865,11 @@ public class FunctionResource extends AwsResource implements Copyable<FunctionCo
                 "Field content-zip-path cannot be set when Fields s3-bucket, s3-key and s3-object-version are set."));
         }
 
+        if (!ObjectUtils.isBlank(getStagingBucket()) && ObjectUtils.isBlank(getContentZipPathRaw())) {
+            errors.add(new ValidationError(this, "staging-bucket",
+                "Field staging-bucket can only be set when field content-zip-path is set."));
+        }
+
         return errors;
     }
 
@@ -40,6 +40,7 @@ import software.amazon.awssdk.services.lambda.model.PublishLayerVersionRequest;
 import software.amazon.awssdk.services.lambda.model.PublishLayerVersionResponse;
 import software.amazon.awssdk.services.lambda.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.lambda.model.Runtime;
+import software.amazon.awssdk.services.s3.S3Client;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -74,6 +75,8 @@ public class LayerResource extends AwsResource implements Copyable<GetLayerVersi
     private String s3Key;
     private String s3ObjectVersion;
     private String contentZipPath;
+    private String stagingBucket;
+    private String stagingKeyPrefix;
     private Set<LayerPermission> permission;
 
     // -- Readonly
@@ -177,6 +180,34 @@ public class LayerResource extends AwsResource implements Copyable<GetLayerVersi
         this.contentZipPath = contentZipPath;
     }
 
+    /**
+     * The S3 bucket used to stage the zip file set in 'content-zip-path'. When set, the zip file is streamed to the bucket with a multipart upload and the Lambda Layer is published from the staged object instead of sending the code inline. The bucket must be in the same region as the Lambda Layer.
+     */
+    @Updatable
+    public String getStagingBucket() {
+        return stagingBucket;
+    }
+
+    public void setStagingBucket(String stagingBucket) {
+        this.stagingBucket = stagingBucket;
+    }
+
+    /**
+     * The key prefix for zip files staged in 'staging-bucket'. Defaults to ``gyro-lambda-staging``.
+     */
+    @Updatable
+    public String getStagingKeyPrefix() {
+        if (stagingKeyPrefix == null) {
+            stagingKeyPrefix = ZipStaging.DEFAULT_KEY_PREFIX;
+        }
+
+        return stagingKeyPrefix;
+    }
+
+    public void setStagingKeyPrefix(String stagingKeyPrefix) {
+        this.stagingKeyPrefix = stagingKeyPrefix;
+    }
+
     /**
      * The list of permissions for the Lambda Layer.
      *
@@ -300,7 +331,17 @@ public class LayerResource extends AwsResource implements Copyable<GetLayerVersi
             .description(getDescription())
             .licenseInfo(getLicenseInfo());
 
-        if (!ObjectUtils.isBlank(getContentZipPath())) {
+        if (!ObjectUtils.isBlank(getContentZipPath()) && !ObjectUtils.isBlank(getStagingBucket())) {
+            String stagedKey = ZipStaging.stage(
+                createClient(S3Client.class),
+                getStagingBucket(),
+                getStagingKeyPrefix(),
+                getContentZipPath(),
+                () -> openInput(getContentZipPath()));
+
+            builder = builder.content(c -> c.s3Bucket(getStagingBucket()).s3Key(stagedKey));
+
+        } else if (!ObjectUtils.isBlank(getContentZipPath())) {
             builder = builder.content(c -> c.zipFile(getZipFile()));
 
         } else {
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026, Brightspot.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package gyro.aws.lambda;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.commons.codec.binary.Hex;
+
+/**
+ * SHA-256 hashes of Lambda function and layer zip files, computed once per run and shared by
+ * {@link FunctionResource} and {@link LayerResource}. Files given with an absolute path are keyed on their path, size
+ * and last modified time and hashed through a memory-mapped file. Relative paths are resolved by Gyro, so they're
+ * streamed through {@code openInput} once and keyed on the path alone.
+ */
+final class ZipContentHashes {
+
+    private static final long MAP_REGION_SIZE = 64L * 1024 * 1024;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final ConcurrentMap<String, String> hashes = new ConcurrentHashMap<>();
+
+    private ZipContentHashes() {
+    }
+
+    @FunctionalInterface
+    interface InputOpener {
+
+        InputStream open() throws IOException;
+    }
+
+    /**
+     * Returns the hex encoded SHA-256 hash of the file, or an empty string if it can't be read.
+     */
+    static String sha256Hex(String path, InputOpener opener) {
+        try {
+            Path file = localFile(path);
+
+            if (file != null) {
+                BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                String key = String.format(
+                    "%s %d %d",
+                    file.toAbsolutePath().normalize(),
+                    attributes.size(),
+                    attributes.lastModifiedTime().toMillis());
+
+                return hashes.computeIfAbsent(key, k -> digest(file));
+            }
+
+            return hashes.computeIfAbsent(path, k -> digest(opener));
+
+        } catch (IOException | RuntimeException ignore) {
+            return "";
+        }
+    }
+
+    static Path localFile(String path) {
+        try {
+            Path file = Paths.get(path);
+
+            return file.isAbsolute() && Files.isRegularFile(file) ? file : null;
+
+        } catch (InvalidPathException ignore) {
+            return null;
+        }
+    }
+
+    private static String digest(Path file) {
+        MessageDigest digest = newDigest();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+
+            for (long position = 0; position < size; position += MAP_REGION_SIZE) {
+                MappedByteBuffer region = channel.map(
+                    FileChannel.MapMode.READ_ONLY,
+                    position,
+                    Math.min(MAP_REGION_SIZE, size - position));
+
+                digest.update(region);
+            }
+
+        } catch (IOException error) {
+            throw new UncheckedIOException(error);
+        }
+
+        return Hex.encodeHexString(digest.digest());
+    }
+
+    private static String digest(InputOpener opener) {
+        MessageDigest digest = newDigest();
+        byte[] buffer = new byte[BUFFER_SIZE];
+
+        try (InputStream input = opener.open()) {
+            int read;
+
+            while ((read = input.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+
+        } catch (IOException error) {
+            throw new UncheckedIOException(error);
+        }
+
+        return Hex.encodeHexString(digest.digest());
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+
+        } catch (NoSuchAlgorithmException error) {
+            throw new IllegalStateException(error);
+        }
+    }
+}
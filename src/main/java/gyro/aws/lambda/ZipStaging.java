@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026, Brightspot.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package gyro.aws.lambda;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+
+import gyro.aws.S3MultipartOutputStream;
+import gyro.core.GyroException;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+
+/**
+ * Streams Lambda function and layer zip files to a staging bucket so that they can be deployed from S3 instead of
+ * being sent inline. Objects are keyed on the SHA-256 hash of their content, and an object that's already staged
+ * with the same hash isn't uploaded again.
+ */
+final class ZipStaging {
+
+    static final String DEFAULT_KEY_PREFIX = "gyro-lambda-staging";
+
+    private static final String SHA256_METADATA = "sha256";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private ZipStaging() {
+    }
+
+    /**
+     * Uploads the zip file unless it's already staged, and returns the key of the staged object.
+     */
+    static String stage(
+        S3Client client,
+        String bucket,
+        String keyPrefix,
+        String path,
+        ZipContentHashes.InputOpener opener) {
+
+        String sha256 = ZipContentHashes.sha256Hex(path, opener);
+
+        if (sha256.isEmpty()) {
+            throw new GyroException(String.format("File not found - %s", path));
+        }
+
+        String key = String.format("%s/%s.zip", keyPrefix.replaceAll("/+$", ""), sha256);
+
+        if (isStaged(client, bucket, key, sha256)) {
+            return key;
+        }
+
+        S3MultipartOutputStream output = new S3MultipartOutputStream(
+            client,
+            bucket,
+            key,
+            Collections.singletonMap(SHA256_METADATA, sha256),
+            S3MultipartOutputStream.DEFAULT_PART_SIZE);
+
+        try (InputStream input = opener.open()) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+
+            while ((read = input.read(buffer)) != -1) {
+                output.write(buffer, 0, read);
+            }
+
+        } catch (IOException error) {
+            output.abort();
+            throw new GyroException(String.format("File not found - %s", path), error);
+
+        } catch (RuntimeException error) {
+            output.abort();
+            throw error;
+        }
+
+        output.close();
+
+        return key;
+    }
+
+    private static boolean isStaged(S3Client client, String bucket, String key, String sha256) {
+        try {
+            return sha256.equals(client.headObject(r -> r.bucket(bucket).key(key)).metadata().get(SHA256_METADATA));
+
+        } catch (NoSuchKeyException ignore) {
+            return false;
+        }
+    }
+}
@@ -17,7 +17,9 @@
 package gyro.aws.neptune;
 
 import com.psddev.dari.util.ObjectUtils;
+import gyro.aws.AwsCredentials;
 import gyro.aws.Copyable;
+import gyro.aws.ParameterCatalog;
 import gyro.core.GyroException;
 import gyro.core.GyroUI;
 import gyro.core.Type;
@@ -31,6 +33,7 @@ import software.amazon.awssdk.services.neptune.NeptuneClient;
 import software.amazon.awssdk.services.neptune.model.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -338,55 +341,30 @@ public class NeptuneClusterParameterGroupResource extends NeptuneTaggableResourc
 
     private Map<String, Parameter> getDefaultClusterParameters(NeptuneClient client, String engineFamily) {
         Map<String, Parameter> defaultParameters = new HashMap<>();
+        String region = credentials(AwsCredentials.class).getRegion();
+        ParameterCatalog clusterDefaults = NeptuneParameter.catalog(client, region, engineFamily, true);
 
-        DescribeEngineDefaultClusterParametersResponse clusterParametersResponse = client.describeEngineDefaultClusterParameters(
-            r -> r.dbParameterGroupFamily(engineFamily)
-        );
-
-        if (clusterParametersResponse.engineDefaults().hasParameters()) {
-            clusterParametersResponse.engineDefaults().parameters().stream().forEach(p -> {
-                defaultParameters.put(
-                    p.parameterName(),
-                    Parameter.builder()
-                        .parameterName(p.parameterName())
-                        .parameterValue(p.parameterValue())
-                        .allowedValues(p.allowedValues())
-                        .applyType(p.applyType())
-                        .dataType(p.dataType())
-                        .description(p.description())
-                        .isModifiable(p.isModifiable())
-                        .minimumEngineVersion(p.minimumEngineVersion())
-                        .source(p.source()).applyMethod("pending-reboot")
-                        .build()
-                );
-            });
-        }
+        for (String name : Arrays.asList(
+            "neptune_enable_audit_log",
+            "neptune_enforce_ssl",
+            "neptune_lab_mode",
+            "neptune_query_timeout")) {
 
-        Parameter defaultQueryTimeout = null;
+            ParameterCatalog.Entry entry = clusterDefaults.get(name);
 
-        DescribeEngineDefaultParametersResponse parametersResponse = client.describeEngineDefaultParameters(
-            r -> r.dbParameterGroupFamily(engineFamily)
-        );
-
-        if (parametersResponse.engineDefaults().hasParameters()) {
-            Parameter defaultParameter = parametersResponse.engineDefaults().parameters().get(0);
-
-            defaultQueryTimeout = Parameter.builder()
-                .parameterName(defaultParameter.parameterName())
-                .parameterValue(defaultParameter.parameterValue())
-                .allowedValues(defaultParameter.allowedValues())
-                .applyType(defaultParameter.applyType())
-                .dataType(defaultParameter.dataType())
-                .description(defaultParameter.description())
-                .isModifiable(defaultParameter.isModifiable())
-                .minimumEngineVersion(defaultParameter.minimumEngineVersion())
-                .source(defaultParameter.source())
-                .applyMethod("pending-reboot")
-                .build();
+            if (entry != null) {
+                defaultParameters.put(name, NeptuneParameter.toDefaultParameter(entry));
+            }
         }
 
+        // The query timeout is a DB parameter that's also set on the cluster group.
+        ParameterCatalog.Entry defaultQueryTimeout = NeptuneParameter.catalog(client, region, engineFamily, false)
+            .get("neptune_query_timeout");
+
         if (defaultQueryTimeout != null) {
-            defaultParameters.put(defaultQueryTimeout.parameterName(), defaultQueryTimeout);
+            defaultParameters.put(
+                defaultQueryTimeout.getName(),
+                NeptuneParameter.toDefaultParameter(defaultQueryTimeout));
         }
 
         return defaultParameters;
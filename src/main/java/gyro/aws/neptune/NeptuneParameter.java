@@ -17,10 +17,13 @@
 package gyro.aws.neptune;
 
 import gyro.aws.Copyable;
+import gyro.aws.ParameterCatalog;
 import gyro.core.resource.Diffable;
 import gyro.core.resource.Output;
 import gyro.core.resource.Updatable;
 import gyro.core.validation.Required;
+import software.amazon.awssdk.services.neptune.NeptuneClient;
+import software.amazon.awssdk.services.neptune.model.EngineDefaults;
 import software.amazon.awssdk.services.neptune.model.Parameter;
 
 public class NeptuneParameter extends Diffable implements Copyable<Parameter> {
@@ -181,4 +184,37 @@ public class NeptuneParameter extends Diffable implements Copyable<Parameter> {
                 .isModifiable(isModifiable()).minimumEngineVersion(getMinimumEngineVersion())
                 .parameterName(getName()).parameterValue(getValue()).source(getSource()).build();
     }
+
+    /**
+     * Returns the engine defaults of the Neptune DB or DB cluster parameter group family.
+     */
+    static ParameterCatalog catalog(NeptuneClient client, String region, String family, boolean cluster) {
+        return ParameterCatalog.get(cluster ? "neptune-cluster" : "neptune", region, family, () -> ParameterCatalog.pages(
+            m -> cluster
+                ? client.describeEngineDefaultClusterParameters(r -> r.dbParameterGroupFamily(family).marker(m))
+                    .engineDefaults()
+                : client.describeEngineDefaultParameters(r -> r.dbParameterGroupFamily(family).marker(m))
+                    .engineDefaults(),
+            EngineDefaults::parameters,
+            EngineDefaults::marker,
+            ParameterCatalog.Entry::of));
+    }
+
+    /**
+     * Returns the parameter that resets it to its engine default on the next reboot.
+     */
+    static Parameter toDefaultParameter(ParameterCatalog.Entry entry) {
+        return Parameter.builder()
+            .parameterName(entry.getName())
+            .parameterValue(entry.getValue())
+            .allowedValues(entry.getAllowedValues())
+            .applyType(entry.getApplyType())
+            .dataType(entry.getDataType())
+            .description(entry.getDescription())
+            .isModifiable(entry.getModifiable())
+            .minimumEngineVersion(entry.getMinimumEngineVersion())
+            .source(entry.getSource())
+            .applyMethod("pending-reboot")
+            .build();
+    }
 }
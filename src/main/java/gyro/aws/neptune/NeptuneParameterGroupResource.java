@@ -19,7 +19,9 @@ package gyro.aws.neptune;
 import java.util.Set;
 
 import com.psddev.dari.util.ObjectUtils;
+import gyro.aws.AwsCredentials;
 import gyro.aws.Copyable;
+import gyro.aws.ParameterCatalog;
 import gyro.core.GyroException;
 import gyro.core.GyroUI;
 import gyro.core.Type;
@@ -35,7 +37,6 @@ import software.amazon.awssdk.services.neptune.model.DBParameterGroup;
 import software.amazon.awssdk.services.neptune.model.DbParameterGroupNotFoundException;
 import software.amazon.awssdk.services.neptune.model.DescribeDbParameterGroupsResponse;
 import software.amazon.awssdk.services.neptune.model.DescribeDbParametersResponse;
-import software.amazon.awssdk.services.neptune.model.DescribeEngineDefaultParametersResponse;
 import software.amazon.awssdk.services.neptune.model.Parameter;
 
 /**
@@ -227,29 +228,12 @@ public class NeptuneParameterGroupResource extends NeptuneTaggableResource imple
     }
 
     private Parameter getDefaultParameter(NeptuneClient client, String engineFamily) {
-        DescribeEngineDefaultParametersResponse response = client.describeEngineDefaultParameters(
-            r -> r.dbParameterGroupFamily(engineFamily)
-        );
-
-        Parameter defaultQueryTimeout = null;
-
-        if (response.engineDefaults().hasParameters()) {
-            Parameter defaultParameter = response.engineDefaults().parameters().get(0);
-
-            defaultQueryTimeout = Parameter.builder()
-                .parameterName(defaultParameter.parameterName())
-                .parameterValue(defaultParameter.parameterValue())
-                .allowedValues(defaultParameter.allowedValues())
-                .applyType(defaultParameter.applyType())
-                .dataType(defaultParameter.dataType())
-                .description(defaultParameter.description())
-                .isModifiable(defaultParameter.isModifiable())
-                .minimumEngineVersion(defaultParameter.minimumEngineVersion())
-                .source(defaultParameter.source())
-                .applyMethod("pending-reboot")
-                .build();
-        }
+        ParameterCatalog.Entry defaultQueryTimeout = NeptuneParameter.catalog(
+            client,
+            credentials(AwsCredentials.class).getRegion(),
+            engineFamily,
+            false).get("neptune_query_timeout");
 
-        return defaultQueryTimeout;
+        return defaultQueryTimeout != null ? NeptuneParameter.toDefaultParameter(defaultQueryTimeout) : null;
     }
 }
@@ -55,8 +55,6 @@ import software.amazon.awssdk.services.opensearch.model.IPAddressType;
 import software.amazon.awssdk.services.opensearch.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.opensearch.model.Tag;
 import software.amazon.awssdk.services.opensearch.model.UpdateDomainConfigRequest;
-import software.amazon.awssdk.services.sts.StsClient;
-import software.amazon.awssdk.services.sts.model.GetCallerIdentityResponse;
 import software.amazon.awssdk.utils.IoUtils;
 
 /**
@@ -843,10 +841,7 @@ public class OpenSearchDomainResource extends AwsResource implements Copyable<Do
 
     public String getOwnerId() {
         try {
-            StsClient client = createClient(StsClient.class);
-            GetCallerIdentityResponse response = client.getCallerIdentity();
-
-            return response.account();
+            return accountIdentity().getAccount();
 
         } catch (Exception ex) {
             // If unable to get the account id, return null
@@ -78,6 +78,22 @@
  *         {@literal @}uses-credentials: 'us-east-2'
  *     end
  *
+ * HTTP Connections
+ * ++++++++++++++++
+ *
+ * Service clients created with the same HTTP settings share a single HTTP connection pool. The pool can be
+ * tuned on the credentials with ``max-connections``, ``connection-time-to-live``, ``connection-max-idle-time``,
+ * ``use-idle-connection-reaper``, ``tcp-keep-alive``, ``socket-timeout`` and ``connection-timeout``. Times are in seconds.
+ *
+ * .. code:: shell
+ *
+ *     {@literal @}credentials 'aws::credentials'
+ *         profile-name: 'my-project'
+ *         region: 'us-east-1'
+ *         max-connections: 500
+ *         connection-max-idle-time: 30
+ *     {@literal @}end
+ *
  * State Locking
  * +++++++++++++
  *
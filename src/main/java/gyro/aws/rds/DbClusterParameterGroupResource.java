@@ -16,6 +16,7 @@
 
 package gyro.aws.rds;
 
+import com.google.common.collect.Lists;
 import gyro.aws.Copyable;
 import gyro.core.GyroException;
 import gyro.core.GyroUI;
@@ -161,29 +162,13 @@ public class DbClusterParameterGroupResource extends RdsTaggableResource impleme
             Set<String> names = getParameter().stream().map(DbParameter::getName).collect(Collectors.toSet());
             getParameter().clear();
 
-            String marker = null;
-            do {
-                DescribeDbClusterParametersResponse parametersResponse = client.describeDBClusterParameters(
-                    DescribeDbClusterParametersRequest.builder()
-                        .dbClusterParameterGroupName(getName())
-                        .marker(marker)
-                        .build()
-                );
-
-                getParameter().addAll(parametersResponse.parameters().stream()
-                    .filter(p -> names.contains(p.parameterName()))
-                    .map(p -> {
-                        DbParameter parameter = new DbParameter();
-                        parameter.setApplyMethod(p.applyMethodAsString());
-                        parameter.setName(p.parameterName());
-                        parameter.setValue(p.parameterValue());
-                        return parameter;
-                    })
-                    .collect(Collectors.toList())
-                );
-
-                marker = parametersResponse.marker();
-            } while (marker != null);
+            getParameter().addAll(DbParameter.load(
+                client,
+                getRegion(),
+                getFamily(),
+                true,
+                names,
+                source -> describeParameters(client, source)));
         } catch (DbParameterGroupNotFoundException ex) {
             return false;
         }
@@ -208,13 +193,15 @@ public class DbClusterParameterGroupResource extends RdsTaggableResource impleme
             state.save();
             setParameter(dbParameters);
 
-            modifyClusterParameterGroup();
+            modifyClusterParameterGroup(DbParameter.changed(getParameter(), new ArrayList<>()));
         }
     }
 
     @Override
     protected void doUpdate(Resource config, Set<String> changedProperties) {
-        modifyClusterParameterGroup();
+        modifyClusterParameterGroup(DbParameter.changed(
+            getParameter(),
+            ((DbClusterParameterGroupResource) config).getParameter()));
     }
 
     @Override
@@ -223,17 +210,31 @@ public class DbClusterParameterGroupResource extends RdsTaggableResource impleme
         client.deleteDBClusterParameterGroup(r -> r.dbClusterParameterGroupName(getName()));
     }
 
-    private void modifyClusterParameterGroup() {
+    private void modifyClusterParameterGroup(List<Parameter> parameters) {
         RdsClient client = createClient(RdsClient.class);
-        client.modifyDBClusterParameterGroup(
-            r -> r.dbClusterParameterGroupName(getName())
-                .parameters(getParameter().stream().map(
-                    p -> Parameter.builder()
-                        .parameterName(p.getName())
-                        .parameterValue(p.getValue())
-                        .applyMethod(p.getApplyMethod())
-                        .build())
-                    .collect(Collectors.toList()))
-        );
+
+        for (List<Parameter> chunk : Lists.partition(parameters, DbParameter.MODIFY_PARAMETERS_MAX)) {
+            client.modifyDBClusterParameterGroup(r -> r.dbClusterParameterGroupName(getName()).parameters(chunk));
+        }
+    }
+
+    private List<Parameter> describeParameters(RdsClient client, String source) {
+        List<Parameter> parameters = new ArrayList<>();
+        String marker = null;
+        do {
+            DescribeDbClusterParametersResponse parametersResponse = client.describeDBClusterParameters(
+                DescribeDbClusterParametersRequest.builder()
+                    .dbClusterParameterGroupName(getName())
+                    .source(source)
+                    .marker(marker)
+                    .build()
+            );
+
+            parameters.addAll(parametersResponse.parameters());
+
+            marker = parametersResponse.marker();
+        } while (marker != null);
+
+        return parameters;
     }
 }
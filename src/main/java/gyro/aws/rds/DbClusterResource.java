@@ -17,6 +17,7 @@
 package gyro.aws.rds;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
@@ -26,6 +27,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import com.psddev.dari.util.ObjectUtils;
+import gyro.aws.AwsWaiter;
 import gyro.aws.Copyable;
 import gyro.aws.ec2.SecurityGroupResource;
 import gyro.aws.kms.KmsKeyResource;
@@ -33,7 +35,6 @@ import gyro.core.GyroException;
 import gyro.core.GyroUI;
 import gyro.core.TimeoutSettings;
 import gyro.core.Type;
-import gyro.core.Wait;
 import gyro.core.resource.Output;
 import gyro.core.resource.Resource;
 import gyro.core.resource.Updatable;
@@ -963,7 +964,7 @@ public class DbClusterResource extends RdsTaggableResource implements Copyable<D
 
             setArn(response.dbCluster().dbClusterArn());
             state.save();
-            waitForActiveStatus(client, TimeoutSettings.Action.CREATE);
+            waitForActiveStatus(client, TimeoutSettings.Action.CREATE, false);
 
         } else if (getSnapshotIdentifier() != null) {
             RestoreDbClusterFromSnapshotResponse response = client.restoreDBClusterFromSnapshot(
@@ -999,7 +1000,7 @@ public class DbClusterResource extends RdsTaggableResource implements Copyable<D
 
             setArn(response.dbCluster().dbClusterArn());
             state.save();
-            waitForActiveStatus(client, TimeoutSettings.Action.CREATE);
+            waitForActiveStatus(client, TimeoutSettings.Action.CREATE, false);
 
         } else if (getS3Import() != null) {
             RestoreDbClusterFromS3Response response = client.restoreDBClusterFromS3(r ->
@@ -1045,7 +1046,7 @@ public class DbClusterResource extends RdsTaggableResource implements Copyable<D
 
             setArn(response.dbCluster().dbClusterArn());
             state.save();
-            waitForActiveStatus(client, TimeoutSettings.Action.CREATE);
+            waitForActiveStatus(client, TimeoutSettings.Action.CREATE, false);
 
             if (getScalingConfiguration() != null) {
                 modifyRequest = modifyRequest.scalingConfiguration(scalingConfiguration);
@@ -1107,7 +1108,7 @@ public class DbClusterResource extends RdsTaggableResource implements Copyable<D
 
             setArn(response.dbCluster().dbClusterArn());
             state.save();
-            waitForActiveStatus(client, TimeoutSettings.Action.CREATE);
+            waitForActiveStatus(client, TimeoutSettings.Action.CREATE, false);
         }
 
         if (getSourceDbCluster() != null || getSnapshotIdentifier() != null || getS3Import() == null) {
@@ -1143,7 +1144,7 @@ public class DbClusterResource extends RdsTaggableResource implements Copyable<D
 
             if (modify) {
                 client.modifyDBCluster(modifyRequest.build());
-                waitForActiveStatus(client, TimeoutSettings.Action.CREATE);
+                waitForActiveStatus(client, TimeoutSettings.Action.CREATE, true);
             }
         }
 
@@ -1155,14 +1156,6 @@ public class DbClusterResource extends RdsTaggableResource implements Copyable<D
         setReaderEndpointAddress(describeResponse.dbClusters().get(0).readerEndpoint());
     }
 
-    private boolean isAvailable(RdsClient client) {
-        DescribeDbClustersResponse describeResponse = client.describeDBClusters(
-            r -> r.dbClusterIdentifier(getIdentifier())
-        );
-
-        return describeResponse.dbClusters().get(0).status().equals("available");
-    }
-
     @Override
     protected void doUpdate(Resource config, Set<String> changedProperties) {
         RdsClient client = createClient(RdsClient.class);
@@ -1261,38 +1254,42 @@ public class DbClusterResource extends RdsTaggableResource implements Copyable<D
                 .skipFinalSnapshot(getSkipFinalSnapshot())
         );
 
-        Wait.atMost(5, TimeUnit.MINUTES)
-            .checkEvery(15, TimeUnit.SECONDS)
+        AwsWaiter.profile(AwsWaiter.Profile.DATABASE)
+            .atMost(5, TimeUnit.MINUTES)
             .resourceOverrides(this, TimeoutSettings.Action.DELETE)
             .prompt(true)
-            .until(() -> isDeleted(client));
-    }
-
-    private boolean isDeleted(RdsClient client) {
-        try {
-            client.describeDBClusters(
-                r -> r.dbClusterIdentifier(getIdentifier())
-            );
-
-        } catch (DbClusterNotFoundException ex) {
-            return true;
-        }
-
-        return false;
+            .until(() -> getClusterStatus(client) == null);
     }
 
-    private void waitForActiveStatus(RdsClient client, TimeoutSettings.Action action) {
-        boolean waitResult = Wait.atMost(10, TimeUnit.MINUTES)
-            .checkEvery(30, TimeUnit.SECONDS)
+    private void waitForActiveStatus(RdsClient client, TimeoutSettings.Action action, boolean modified) {
+        boolean waitResult = AwsWaiter.profile(AwsWaiter.Profile.DATABASE)
+            .atMost(10, TimeUnit.MINUTES)
             .resourceOverrides(this, action)
             .prompt(false)
-            .until(() -> isAvailable(client));
+            .delayFirstProbe(modified)
+            .untilState(
+                () -> getClusterStatus(client),
+                Collections.singleton("available"),
+                Arrays.asList("deleting", "failed", "incompatible-restore", "incompatible-parameters"));
 
         if (!waitResult) {
             throw new GyroException("Unable to reach 'available' state for rds db cluster - " + getIdentifier());
         }
     }
 
+    private String getClusterStatus(RdsClient client) {
+        try {
+            DescribeDbClustersResponse describeResponse = client.describeDBClusters(
+                r -> r.dbClusterIdentifier(getIdentifier())
+            );
+
+            return describeResponse.dbClusters().get(0).status();
+
+        } catch (DbClusterNotFoundException ex) {
+            return null;
+        }
+    }
+
     @Override
     public List<ValidationError> validate(Set<String> configuredFields) {
         ArrayList<ValidationError> errors = new ArrayList<>();
@@ -16,6 +16,8 @@
 
 package gyro.aws.rds;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -23,6 +25,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import com.psddev.dari.util.ObjectUtils;
+import gyro.aws.AwsWaiter;
 import gyro.aws.Copyable;
 import gyro.aws.ec2.SecurityGroupResource;
 import gyro.aws.kms.KmsKeyResource;
@@ -30,7 +33,6 @@ import gyro.core.GyroException;
 import gyro.core.GyroUI;
 import gyro.core.TimeoutSettings;
 import gyro.core.Type;
-import gyro.core.Wait;
 import gyro.core.resource.Output;
 import gyro.core.resource.Resource;
 import gyro.core.resource.Updatable;
@@ -940,11 +942,14 @@ public class DbInstanceResource extends RdsTaggableResource implements Copyable<
 
         state.save();
 
-        boolean waitResult = Wait.atMost(20, TimeUnit.MINUTES)
-            .checkEvery(1, TimeUnit.MINUTES)
+        boolean waitResult = AwsWaiter.profile(AwsWaiter.Profile.DATABASE)
+            .atMost(20, TimeUnit.MINUTES)
             .resourceOverrides(this, TimeoutSettings.Action.CREATE)
             .prompt(false)
-            .until(() -> isAvailable(client));
+            .untilState(
+                () -> getInstanceStatus(client),
+                Collections.singleton("available"),
+                Arrays.asList("deleting", "failed", "incompatible-restore", "incompatible-parameters"));
 
         if (!waitResult) {
             throw new GyroException("Unable to reach 'available' state for rds db instance" + getIdentifier());
@@ -957,14 +962,6 @@ public class DbInstanceResource extends RdsTaggableResource implements Copyable<
         setEndpointAddress(describeResponse.dbInstances().get(0).endpoint().address());
     }
 
-    private boolean isAvailable(RdsClient client) {
-        DescribeDbInstancesResponse describeResponse = client.describeDBInstances(
-            r -> r.dbInstanceIdentifier(getIdentifier())
-        );
-
-        return describeResponse.dbInstances().get(0).dbInstanceStatus().equals("available");
-    }
-
     @Override
     public void doUpdate(Resource config, Set<String> changedProperties) {
         RdsClient client = createClient(RdsClient.class);
@@ -1081,23 +1078,23 @@ public class DbInstanceResource extends RdsTaggableResource implements Copyable<
                 .deleteAutomatedBackups(getDeleteAutomatedBackups())
         );
 
-        Wait.atMost(20, TimeUnit.MINUTES)
-            .checkEvery(1, TimeUnit.MINUTES)
+        AwsWaiter.profile(AwsWaiter.Profile.DATABASE)
+            .atMost(20, TimeUnit.MINUTES)
             .resourceOverrides(this, TimeoutSettings.Action.DELETE)
             .prompt(true)
-            .until(() -> isDeleted(client));
+            .until(() -> getInstanceStatus(client) == null);
     }
 
-    private boolean isDeleted(RdsClient client) {
+    private String getInstanceStatus(RdsClient client) {
         try {
-            client.describeDBInstances(
+            DescribeDbInstancesResponse describeResponse = client.describeDBInstances(
                 r -> r.dbInstanceIdentifier(getIdentifier())
             );
 
+            return describeResponse.dbInstances().get(0).dbInstanceStatus();
+
         } catch (DbInstanceNotFoundException ex) {
-            return true;
+            return null;
         }
-
-        return false;
     }
 }
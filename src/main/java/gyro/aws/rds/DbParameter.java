@@ -16,13 +16,37 @@
 
 package gyro.aws.rds;
 
+import gyro.aws.ParameterCatalog;
 import gyro.core.resource.Diffable;
 import gyro.core.resource.Updatable;
 import gyro.core.validation.Required;
 import gyro.core.validation.ValidStrings;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.EngineDefaults;
+import software.amazon.awssdk.services.rds.model.Parameter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 public class DbParameter extends Diffable {
 
+    /**
+     * The most parameters that a single modify parameter group request accepts.
+     */
+    static final int MODIFY_PARAMETERS_MAX = 20;
+
+    /**
+     * The sources of the parameters set on a group, by the user or by AWS. The rest have their engine defaults.
+     */
+    static final List<String> GROUP_SOURCES = Arrays.asList("user", "system");
+
     private String name;
     private String value;
     private String applyMethod;
@@ -73,4 +97,102 @@ public class DbParameter extends Diffable {
         return getName();
     }
 
+    Parameter toParameter() {
+        return Parameter.builder()
+            .parameterName(getName())
+            .parameterValue(getValue())
+            .applyMethod(getApplyMethod())
+            .build();
+    }
+
+    static DbParameter fromParameter(Parameter parameter) {
+        DbParameter dbParameter = new DbParameter();
+        dbParameter.setApplyMethod(parameter.applyMethodAsString());
+        dbParameter.setName(parameter.parameterName());
+        dbParameter.setValue(parameter.parameterValue());
+
+        return dbParameter;
+    }
+
+    static DbParameter fromCatalogEntry(ParameterCatalog.Entry entry) {
+        DbParameter dbParameter = new DbParameter();
+        dbParameter.setApplyMethod(entry.getApplyMethod());
+        dbParameter.setName(entry.getName());
+        dbParameter.setValue(entry.getValue());
+
+        return dbParameter;
+    }
+
+    /**
+     * Returns the engine defaults of the DB or DB cluster parameter group family.
+     */
+    static ParameterCatalog catalog(RdsClient client, String region, String family, boolean cluster) {
+        return ParameterCatalog.get(cluster ? "rds-cluster" : "rds", region, family, () -> ParameterCatalog.pages(
+            m -> cluster
+                ? client.describeEngineDefaultClusterParameters(r -> r.dbParameterGroupFamily(family).marker(m))
+                    .engineDefaults()
+                : client.describeEngineDefaultParameters(r -> r.dbParameterGroupFamily(family).marker(m))
+                    .engineDefaults(),
+            EngineDefaults::parameters,
+            EngineDefaults::marker,
+            ParameterCatalog.Entry::of));
+    }
+
+    /**
+     * Returns the current values of the named parameters of a DB or DB cluster parameter group. The parameters set on
+     * the group are read with {@code describe} once per {@link #GROUP_SOURCES source}, and the ones that were never
+     * set get the engine defaults of the family.
+     *
+     * @param describe Lists every parameter of the group with the given source.
+     */
+    static List<DbParameter> load(
+        RdsClient client,
+        String region,
+        String family,
+        boolean cluster,
+        Set<String> names,
+        Function<String, List<Parameter>> describe) {
+
+        List<DbParameter> parameters = new ArrayList<>();
+        Set<String> unset = new HashSet<>(names);
+
+        for (String source : GROUP_SOURCES) {
+            describe.apply(source).stream()
+                .filter(p -> unset.remove(p.parameterName()))
+                .map(DbParameter::fromParameter)
+                .forEach(parameters::add);
+        }
+
+        if (!unset.isEmpty()) {
+            ParameterCatalog catalog = catalog(client, region, family, cluster);
+
+            unset.stream()
+                .map(catalog::get)
+                .filter(Objects::nonNull)
+                .map(DbParameter::fromCatalogEntry)
+                .forEach(parameters::add);
+        }
+
+        return parameters;
+    }
+
+    /**
+     * Returns the parameters in {@code desired} that are missing from {@code current} or have a different value or
+     * apply method.
+     */
+    static List<Parameter> changed(List<DbParameter> desired, List<DbParameter> current) {
+        Map<String, DbParameter> currentByName = current.stream()
+            .collect(Collectors.toMap(DbParameter::getName, Function.identity(), (a, b) -> b));
+
+        return desired.stream()
+            .filter(p -> {
+                DbParameter c = currentByName.get(p.getName());
+
+                return c == null
+                    || !Objects.equals(p.getValue(), c.getValue())
+                    || !Objects.equals(p.getApplyMethod(), c.getApplyMethod());
+            })
+            .map(DbParameter::toParameter)
+            .collect(Collectors.toList());
+    }
 }
@@ -16,6 +16,7 @@
 
 package gyro.aws.rds;
 
+import com.google.common.collect.Lists;
 import gyro.aws.Copyable;
 import gyro.core.GyroException;
 import gyro.core.GyroUI;
@@ -32,7 +33,6 @@ import software.amazon.awssdk.services.rds.model.DBParameterGroup;
 import software.amazon.awssdk.services.rds.model.DbParameterGroupNotFoundException;
 import software.amazon.awssdk.services.rds.model.DescribeDbParameterGroupsResponse;
 import software.amazon.awssdk.services.rds.model.Parameter;
-import software.amazon.awssdk.services.rds.paginators.DescribeDBParametersIterable;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -157,26 +157,19 @@ public class DbParameterGroupResource extends RdsTaggableResource implements Cop
 
             response.dbParameterGroups().forEach(this::copyFrom);
 
-            DescribeDBParametersIterable iterable = client.describeDBParametersPaginator(
-                r -> r.dbParameterGroupName(getName())
-            );
-
             Set<String> names = getParameter().stream().map(DbParameter::getName).collect(Collectors.toSet());
             getParameter().clear();
-            iterable.stream().forEach(
-                r -> getParameter().addAll(r.parameters().stream()
-                    .filter(p -> names.contains(p.parameterName()))
-                    .map(p -> {
-                                DbParameter parameter = new DbParameter();
-                                parameter.setApplyMethod(p.applyMethodAsString());
-                                parameter.setName(p.parameterName());
-                                parameter.setValue(p.parameterValue());
-                                return parameter;
-                            }
-                        )
-                    .collect(Collectors.toList())
-                )
-            );
+
+            getParameter().addAll(DbParameter.load(
+                client,
+                getRegion(),
+                getFamily(),
+                false,
+                names,
+                source -> client.describeDBParametersPaginator(r -> r.dbParameterGroupName(getName()).source(source))
+                    .parameters()
+                    .stream()
+                    .collect(Collectors.toList())));
 
         } catch (DbParameterGroupNotFoundException ex) {
             return false;
@@ -202,13 +195,15 @@ public class DbParameterGroupResource extends RdsTaggableResource implements Cop
             state.save();
             setParameter(dbParameters);
 
-            modifyParameterGroup();
+            modifyParameterGroup(DbParameter.changed(getParameter(), new ArrayList<>()));
         }
     }
 
     @Override
     protected void doUpdate(Resource config, Set<String> changedProperties) {
-        modifyParameterGroup();
+        modifyParameterGroup(DbParameter.changed(
+            getParameter(),
+            ((DbParameterGroupResource) config).getParameter()));
     }
 
     @Override
@@ -217,17 +212,11 @@ public class DbParameterGroupResource extends RdsTaggableResource implements Cop
         client.deleteDBParameterGroup(r -> r.dbParameterGroupName(getName()));
     }
 
-    private void modifyParameterGroup() {
+    private void modifyParameterGroup(List<Parameter> parameters) {
         RdsClient client = createClient(RdsClient.class);
-        client.modifyDBParameterGroup(
-            r -> r.dbParameterGroupName(getName())
-                .parameters(getParameter().stream().map(
-                    p -> Parameter.builder()
-                        .parameterName(p.getName())
-                        .parameterValue(p.getValue())
-                        .applyMethod(p.getApplyMethod())
-                        .build())
-                    .collect(Collectors.toList()))
-        );
+
+        for (List<Parameter> chunk : Lists.partition(parameters, DbParameter.MODIFY_PARAMETERS_MAX)) {
+            client.modifyDBParameterGroup(r -> r.dbParameterGroupName(getName()).parameters(chunk));
+        }
     }
 }
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026, Brightspot.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package gyro.aws.route53;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.google.common.collect.MapMaker;
+import gyro.aws.SiblingChanges;
+import gyro.core.GyroException;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.route53.Route53Client;
+import software.amazon.awssdk.services.route53.model.Change;
+import software.amazon.awssdk.services.route53.model.ChangeAction;
+import software.amazon.awssdk.services.route53.model.ChangeStatus;
+import software.amazon.awssdk.services.route53.model.ResourceRecord;
+
+/**
+ * Coalesces the creates, updates or deletes of record sets in the same hosted zone into ChangeResourceRecordSets calls,
+ * see {@link SiblingChanges}. Each call stays within the Route 53 limits of {@link #MAX_RECORDS} records and
+ * {@link #MAX_CHARACTERS} characters of record values, where an UPSERT counts twice. The record sets sent together
+ * share one change ID, which each of them can then wait on to be in sync.
+ */
+final class RecordSetChangeBatcher {
+
+    static final int MAX_RECORDS = 1000;
+    static final int MAX_CHARACTERS = 32000;
+
+    private static final Map<RecordSetResource, String> changeIds = new MapMaker().weakKeys().makeMap();
+    private static final Set<String> syncedChangeIds = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+    private RecordSetChangeBatcher() {
+    }
+
+    /**
+     * Saves the record set along with its siblings in the same zone whose pending change matches {@code pending}, and
+     * returns the ID of the change batch it was sent in. When a call fails, the names of the record sets in it are
+     * included in the error.
+     */
+    static String save(
+        Route53Client client,
+        RecordSetResource recordSet,
+        Stream<RecordSetResource> siblings,
+        Predicate<? super gyro.core.diff.Change> pending,
+        Function<RecordSetResource, Change> toChange) {
+
+        String hostedZoneId = recordSet.getHostedZone().getId();
+        String comment = recordSet.getComment();
+
+        SiblingChanges.send(
+            recordSet,
+            siblings.filter(r -> r.getHostedZone() != null
+                && hostedZoneId.equals(r.getHostedZone().getId())
+                && Objects.equals(comment, r.getComment())),
+            pending,
+            recordSets -> split(recordSets, toChange),
+            recordSets -> {
+                String changeId;
+
+                try {
+                    changeId = submit(
+                        client,
+                        hostedZoneId,
+                        comment,
+                        recordSets.stream().map(toChange).collect(Collectors.toList()));
+
+                } catch (SdkException error) {
+                    throw new GyroException(
+                        String.format(
+                            "Unable to change record sets [%s] in hosted zone %s: %s",
+                            recordSets.stream().map(RecordSetResource::getName).collect(Collectors.joining(", ")),
+                            hostedZoneId,
+                            error.getMessage()),
+                        error);
+                }
+
+                recordSets.forEach(r -> changeIds.put(r, changeId));
+            });
+
+        return changeIds.remove(recordSet);
+    }
+
+    /**
+     * Splits the record sets in order into calls that each stay within the record and character limits.
+     */
+    private static List<List<RecordSetResource>> split(
+        List<RecordSetResource> recordSets,
+        Function<RecordSetResource, Change> toChange) {
+
+        List<List<RecordSetResource>> calls = new ArrayList<>();
+        List<RecordSetResource> call = new ArrayList<>();
+        int records = 0;
+        int characters = 0;
+
+        for (RecordSetResource recordSet : recordSets) {
+            Change change = toChange.apply(recordSet);
+            List<ResourceRecord> resourceRecords = change.resourceRecordSet().resourceRecords();
+            int multiplier = change.action() == ChangeAction.UPSERT ? 2 : 1;
+
+            // Alias record sets don't have any records, but still take up a change.
+            int changeRecords = Math.max(1, resourceRecords.size()) * multiplier;
+            int changeCharacters = resourceRecords.stream().mapToInt(r -> r.value().length()).sum() * multiplier;
+
+            if (!call.isEmpty()
+                && (records + changeRecords > MAX_RECORDS || characters + changeCharacters > MAX_CHARACTERS)) {
+
+                calls.add(call);
+                call = new ArrayList<>();
+                records = 0;
+                characters = 0;
+            }
+
+            call.add(recordSet);
+            records += changeRecords;
+            characters += changeCharacters;
+        }
+
+        if (!call.isEmpty()) {
+            calls.add(call);
+        }
+
+        return calls;
+    }
+
+    /**
+     * Sends the changes in a single call and returns the ID of the change batch.
+     */
+    static String submit(Route53Client client, String hostedZoneId, String comment, List<Change> changes) {
+        String changeId = client.changeResourceRecordSets(r -> r.hostedZoneId(hostedZoneId)
+            .changeBatch(c -> c.comment(comment).changes(changes)))
+            .changeInfo()
+            .id();
+
+        RecordSetSnapshot.invalidate(hostedZoneId);
+
+        return changeId;
+    }
+
+    /**
+     * Returns {@code true} once the change batch with the given ID has propagated to all Route 53 servers.
+     */
+    static boolean isInSync(Route53Client client, String changeId) {
+        if (syncedChangeIds.contains(changeId)) {
+            return true;
+        }
+
+        if (client.getChange(r -> r.id(changeId)).changeInfo().status() == ChangeStatus.INSYNC) {
+            syncedChangeIds.add(changeId);
+            return true;
+        }
+
+        return false;
+    }
+}
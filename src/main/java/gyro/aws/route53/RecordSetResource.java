@@ -17,12 +17,16 @@
 package gyro.aws.route53;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.google.common.collect.ImmutableSet;
 import com.psddev.dari.util.ObjectUtils;
@@ -30,8 +34,15 @@ import com.psddev.dari.util.StringUtils;
 import gyro.aws.AwsResource;
 import gyro.aws.Copyable;
 import gyro.core.GyroCore;
+import gyro.core.GyroException;
 import gyro.core.GyroUI;
+import gyro.core.TimeoutSettings;
 import gyro.core.Type;
+import gyro.core.Wait;
+import gyro.core.diff.Create;
+import gyro.core.diff.Delete;
+import gyro.core.diff.Update;
+import gyro.core.resource.DiffableInternals;
 import gyro.core.resource.Id;
 import gyro.core.resource.Output;
 import gyro.core.resource.Resource;
@@ -45,8 +56,6 @@ import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.route53.Route53Client;
 import software.amazon.awssdk.services.route53.model.Change;
 import software.amazon.awssdk.services.route53.model.ChangeAction;
-import software.amazon.awssdk.services.route53.model.HostedZoneNotFoundException;
-import software.amazon.awssdk.services.route53.model.NoSuchHostedZoneException;
 import software.amazon.awssdk.services.route53.model.ResourceRecord;
 import software.amazon.awssdk.services.route53.model.ResourceRecordSet;
 
@@ -125,8 +134,7 @@ public class RecordSetResource extends AwsResource implements Copyable<ResourceR
     private Set<String> records;
     private String routingPolicy;
     private String id;
-
-    private static transient Map<String, List<ResourceRecordSet>> recordSetCache;
+    private Boolean waitForSync;
 
     private static final Set<String> ROUTING_POLICY_SET = ImmutableSet.of("geolocation", "failover", "multivalue", "weighted", "latency", "simple");
 
@@ -357,6 +365,22 @@ public class RecordSetResource extends AwsResource implements Copyable<ResourceR
         this.id = id;
     }
 
+    /**
+     * If set to ``false`` changes to the record set don't wait until they have propagated to all Route 53 servers. Defaults to ``true``.
+     */
+    @Updatable
+    public Boolean getWaitForSync() {
+        if (waitForSync == null) {
+            waitForSync = true;
+        }
+
+        return waitForSync;
+    }
+
+    public void setWaitForSync(Boolean waitForSync) {
+        this.waitForSync = waitForSync;
+    }
+
     @Override
     public void copyFrom(ResourceRecordSet recordSet) {
         setName(recordSet.name().replace("\\052", "*"));
@@ -368,6 +392,7 @@ public class RecordSetResource extends AwsResource implements Copyable<ResourceR
         setWeight(recordSet.weight());
         setTrafficPolicyInstance(findById(TrafficPolicyInstanceResource.class, recordSet.trafficPolicyInstanceId()));
         setTtl(recordSet.ttl());
+        setSetIdentifier(recordSet.setIdentifier());
         setRecords(recordSet.resourceRecords().stream().map(ResourceRecord::value).collect(Collectors.toSet()));
         setId(String.format("%s %s", getName(), getType()));
 
@@ -390,8 +415,12 @@ public class RecordSetResource extends AwsResource implements Copyable<ResourceR
     public boolean refresh() {
         Route53Client client = createClient(Route53Client.class, Region.AWS_GLOBAL.toString(), null);
 
-        List<ResourceRecordSet> records = getResourceRecordSets(client, getHostedZone().getId());
-        ResourceRecordSet recordSet = getResourceRecordSet(records);
+        ResourceRecordSet recordSet = RecordSetSnapshot.find(
+            client,
+            getHostedZone().getId(),
+            getRecordName(),
+            getType(),
+            getSetIdentifier());
 
         if (recordSet == null) {
             return false;
@@ -407,24 +436,20 @@ public class RecordSetResource extends AwsResource implements Copyable<ResourceR
         Route53Client client = createClient(Route53Client.class, Region.AWS_GLOBAL.toString(), null);
 
         Map<RecordSetResource, Boolean> refreshStatus = new HashMap<>();
-        Map<String, List<ResourceRecordSet>> zoneRecordCache = new HashMap<>();
 
         for (Resource resource : resources) {
             RecordSetResource recordSetResource = (RecordSetResource) resource;
-            String hostedZoneId = recordSetResource.getHostedZone().getId();
-
-            List<ResourceRecordSet> recordSets = zoneRecordCache.computeIfAbsent(hostedZoneId,
-                    m -> RecordSetResource.getResourceRecordSets(client, m));
 
-            ResourceRecordSet recordSet = recordSetResource.getResourceRecordSet(recordSets);
+            ResourceRecordSet recordSet = RecordSetSnapshot.load(client, recordSetResource.getHostedZone().getId())
+                .get(recordSetResource.getRecordName(), recordSetResource.getType(), recordSetResource.getSetIdentifier());
 
             if (recordSet == null) {
                 refreshStatus.put(recordSetResource, false);
+
             } else {
                 recordSetResource.copyFrom(recordSet);
+                refreshStatus.put(recordSetResource, true);
             }
-
-            refreshStatus.put(recordSetResource, true);
         }
 
         return refreshStatus;
@@ -436,11 +461,14 @@ public class RecordSetResource extends AwsResource implements Copyable<ResourceR
 
         Route53Client client = createClient(Route53Client.class, Region.AWS_GLOBAL.toString(), null);
 
-        if (getType().equals("NS") || getType().equals("SOA")) {
-            saveResourceRecordSet(client,this, ChangeAction.UPSERT);
-        } else {
-            saveResourceRecordSet(client,this, ChangeAction.CREATE);
-        }
+        String changeId = RecordSetChangeBatcher.save(
+            client,
+            this,
+            findSiblings(client).filter(RecordSetResource::isResolved),
+            Create.class::isInstance,
+            RecordSetResource::toCreateChange);
+
+        waitForSync(client, TimeoutSettings.Action.CREATE, changeId);
 
         setId(String.format("%s %s", getName(), getType()));
     }
@@ -454,46 +482,109 @@ public class RecordSetResource extends AwsResource implements Copyable<ResourceR
         RecordSetResource oldResource = (RecordSetResource) current;
 
         if (changedFieldNames.contains("name") || changedFieldNames.contains("set-identifier")) {
-            saveResourceRecordSet(client, oldResource, ChangeAction.DELETE);
-        }
+            saveResourceRecordSets(
+                client,
+                TimeoutSettings.Action.UPDATE,
+                toChange(oldResource, ChangeAction.DELETE),
+                toChange(this, ChangeAction.UPSERT));
 
-        saveResourceRecordSet(client, this, ChangeAction.UPSERT);
+        } else {
+            String changeId = RecordSetChangeBatcher.save(
+                client,
+                this,
+                findSiblings(client).filter(r -> isResolved(r) && !isRename(r)),
+                Update.class::isInstance,
+                r -> toChange(r, ChangeAction.UPSERT));
+
+            waitForSync(client, TimeoutSettings.Action.UPDATE, changeId);
+        }
     }
 
     @Override
     public void delete(GyroUI ui, State state) {
         Route53Client client = createClient(Route53Client.class, Region.AWS_GLOBAL.toString(), null);
 
-        saveResourceRecordSet(client, this, ChangeAction.DELETE);
+        String changeId = RecordSetChangeBatcher.save(
+            client,
+            this,
+            findSiblings(client),
+            Delete.class::isInstance,
+            r -> toChange(r, ChangeAction.DELETE));
+
+        waitForSync(client, TimeoutSettings.Action.DELETE, changeId);
+    }
+
+    private String getRecordName() {
+        return getName().replace("*", "\\052");
     }
 
-    private static List<ResourceRecordSet> getResourceRecordSets(Route53Client client, String hostedZoneId) {
-        try {
-            return client.listResourceRecordSetsPaginator(
-                r -> r.hostedZoneId(hostedZoneId)
-            ).resourceRecordSets().stream().collect(Collectors.toList());
+    private Stream<RecordSetResource> findSiblings(Route53Client client) {
+        return findByClass(RecordSetResource.class)
+            .filter(r -> r.createClient(Route53Client.class, Region.AWS_GLOBAL.toString(), null) == client);
+    }
 
-        } catch (HostedZoneNotFoundException | NoSuchHostedZoneException ignore) {
-            return new ArrayList<>();
-        }
+    /**
+     * Returns {@code true} if the record set doesn't depend on anything that hasn't been created yet, so it can be
+     * created along with a sibling ahead of its turn.
+     */
+    private static boolean isResolved(RecordSetResource recordSetResource) {
+        return (recordSetResource.getHealthCheck() == null || recordSetResource.getHealthCheck().getId() != null)
+            && (recordSetResource.getTrafficPolicyInstance() == null
+            || recordSetResource.getTrafficPolicyInstance().getId() != null)
+            && (recordSetResource.getAlias() == null || recordSetResource.getAlias().getDnsName() != null)
+            && recordSetResource.getRecords().stream().allMatch(Objects::nonNull);
     }
 
-    private ResourceRecordSet getResourceRecordSet(List<ResourceRecordSet> records) {
-        ResourceRecordSet recordSet = null;
+    /**
+     * Returns {@code true} if the record set is being updated with a new name or set identifier, which has to be sent
+     * as its own DELETE and UPSERT so that the rename is atomic.
+     */
+    private static boolean isRename(RecordSetResource recordSetResource) {
+        gyro.core.diff.Change change = DiffableInternals.getChange(recordSetResource);
 
-        if (!records.isEmpty()) {
-            recordSet = records
-                .stream()
-                .filter(o -> o.name().equals(getName().replace("*", "\\052")))
-                .filter(o -> o.type().name().equalsIgnoreCase(getType()))
-                .findFirst()
-                .orElse(null);
+        if (!(change instanceof Update)) {
+            return false;
         }
 
-        return recordSet;
+        RecordSetResource current = (RecordSetResource) ((Update) change).getCurrentDiffable();
+
+        return !Objects.equals(current.getName(), recordSetResource.getName())
+            || !Objects.equals(current.getSetIdentifier(), recordSetResource.getSetIdentifier());
     }
 
-    private void saveResourceRecordSet(Route53Client client, RecordSetResource recordSetResource, ChangeAction changeAction) {
+    private static Change toCreateChange(RecordSetResource recordSetResource) {
+        String type = recordSetResource.getType();
+
+        return toChange(
+            recordSetResource,
+            type.equals("NS") || type.equals("SOA") ? ChangeAction.UPSERT : ChangeAction.CREATE);
+    }
+
+    private void saveResourceRecordSets(Route53Client client, TimeoutSettings.Action action, Change... changes) {
+        String changeId = RecordSetChangeBatcher.submit(
+            client,
+            getHostedZone().getId(),
+            getComment(),
+            Arrays.asList(changes));
+
+        waitForSync(client, action, changeId);
+    }
+
+    private void waitForSync(Route53Client client, TimeoutSettings.Action action, String changeId) {
+        if (getWaitForSync()) {
+            boolean waitResult = Wait.atMost(2, TimeUnit.MINUTES)
+                .checkEvery(5, TimeUnit.SECONDS)
+                .resourceOverrides(this, action)
+                .prompt(false)
+                .until(() -> RecordSetChangeBatcher.isInSync(client, changeId));
+
+            if (!waitResult) {
+                throw new GyroException("Unable to reach 'INSYNC' state for route53 record set - " + getName());
+            }
+        }
+    }
+
+    private static Change toChange(RecordSetResource recordSetResource, ChangeAction changeAction) {
         ResourceRecordSet.Builder recordSetBuilder = ResourceRecordSet.builder()
             .name(recordSetResource.getName())
             .healthCheckId(recordSetResource.getHealthCheck() != null ? recordSetResource.getHealthCheck().getId() : null)
@@ -537,18 +628,10 @@ public class RecordSetResource extends AwsResource implements Copyable<ResourceR
             default: break;
         }
 
-        Change change = Change.builder()
+        return Change.builder()
             .action(changeAction)
             .resourceRecordSet(recordSetBuilder.build())
             .build();
-
-        client.changeResourceRecordSets(
-            r -> r.hostedZoneId(recordSetResource.getHostedZone().getId())
-                .changeBatch(
-                    c -> c.comment(recordSetResource.getComment())
-                        .changes(change)
-                )
-        );
     }
 
     @Override
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026, Brightspot.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package gyro.aws.route53;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import software.amazon.awssdk.services.route53.Route53Client;
+import software.amazon.awssdk.services.route53.model.HostedZoneNotFoundException;
+import software.amazon.awssdk.services.route53.model.NoSuchHostedZoneException;
+import software.amazon.awssdk.services.route53.model.ResourceRecordSet;
+
+/**
+ * Per-run snapshot of the record sets in a hosted zone, indexed by name, type and set identifier. A zone is listed at
+ * most once per run and the snapshot is shared by every {@link RecordSetResource} in that zone. Lookups in zones
+ * that haven't been listed seek directly to the record with {@code StartRecordName} and {@code StartRecordType}.
+ */
+final class RecordSetSnapshot {
+
+    private static final ConcurrentMap<String, RecordSetSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    private final Map<String, ResourceRecordSet> recordSets;
+
+    private RecordSetSnapshot(Map<String, ResourceRecordSet> recordSets) {
+        this.recordSets = recordSets;
+    }
+
+    /**
+     * Returns the snapshot of the hosted zone, listing every record set in the zone the first time it's requested.
+     */
+    static RecordSetSnapshot load(Route53Client client, String hostedZoneId) {
+        RecordSetSnapshot snapshot = snapshots.get(hostedZoneId);
+
+        if (snapshot == null) {
+            snapshot = snapshots.computeIfAbsent(hostedZoneId, id -> list(client, id));
+        }
+
+        return snapshot;
+    }
+
+    /**
+     * Finds a single record set, using the snapshot of the hosted zone if it's already been loaded.
+     */
+    static ResourceRecordSet find(
+        Route53Client client,
+        String hostedZoneId,
+        String name,
+        String type,
+        String setIdentifier) {
+
+        RecordSetSnapshot snapshot = snapshots.get(hostedZoneId);
+
+        if (snapshot != null) {
+            return snapshot.get(name, type, setIdentifier);
+        }
+
+        try {
+            for (ResourceRecordSet recordSet : client.listResourceRecordSetsPaginator(r -> r.hostedZoneId(hostedZoneId)
+                .startRecordName(name)
+                .startRecordType(type)).resourceRecordSets()) {
+
+                if (!recordSet.name().equals(name) || !recordSet.typeAsString().equalsIgnoreCase(type)) {
+                    break;
+                }
+
+                if (key(recordSet.name(), recordSet.typeAsString(), recordSet.setIdentifier())
+                    .equals(key(name, type, setIdentifier))) {
+
+                    return recordSet;
+                }
+            }
+
+        } catch (HostedZoneNotFoundException | NoSuchHostedZoneException ignore) {
+            // Zone is gone, so is the record.
+        }
+
+        return null;
+    }
+
+    /**
+     * Drops the snapshot of the hosted zone after its records have been changed.
+     */
+    static void invalidate(String hostedZoneId) {
+        snapshots.remove(hostedZoneId);
+    }
+
+    ResourceRecordSet get(String name, String type, String setIdentifier) {
+        return recordSets.get(key(name, type, setIdentifier));
+    }
+
+    private static RecordSetSnapshot list(Route53Client client, String hostedZoneId) {
+        Map<String, ResourceRecordSet> recordSets = new HashMap<>();
+
+        try {
+            for (ResourceRecordSet recordSet : client.listResourceRecordSetsPaginator(r -> r.hostedZoneId(hostedZoneId))
+                .resourceRecordSets()) {
+
+                recordSets.put(key(recordSet.name(), recordSet.typeAsString(), recordSet.setIdentifier()), recordSet);
+            }
+
+        } catch (HostedZoneNotFoundException | NoSuchHostedZoneException ignore) {
+            // Zone is gone, so are its records.
+        }
+
+        return new RecordSetSnapshot(recordSets);
+    }
+
+    private static String key(String name, String type, String setIdentifier) {
+        return String.format("%s %s %s", name, type.toUpperCase(), setIdentifier != null ? setIdentifier : "");
+    }
+}
@@ -24,7 +24,6 @@ import software.amazon.awssdk.services.s3.model.Bucket;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * Query bucket name.
@@ -53,15 +52,15 @@ public class BucketFinder extends AwsFinder<S3Client, Bucket, BucketResource> {
 
     @Override
     protected List<Bucket> findAllAws(S3Client client) {
-        return client.listBuckets().buckets();
+        return BucketLookup.list(client);
     }
 
     @Override
     protected List<Bucket> findAws(S3Client client, Map<String, String> filters) {
-        List<Bucket> buckets = findAllAws(client);
-
         if (filters.containsKey("name")) {
-            return buckets.stream().filter(o -> o.name().equals(filters.get("name"))).collect(Collectors.toList());
+            Bucket bucket = BucketLookup.find(client, filters.get("name"));
+
+            return bucket != null ? Collections.singletonList(bucket) : Collections.emptyList();
         } else {
             return Collections.emptyList();
         }
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026, Brightspot.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package gyro.aws.s3;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.MapMaker;
+import gyro.aws.S3BucketRegions;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Bucket;
+import software.amazon.awssdk.services.s3.model.HeadBucketResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchBucketException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+/**
+ * Looks up single buckets with {@code HeadBucket} instead of listing every bucket in the account. The full
+ * {@code ListBuckets} listing is fetched at most once per client per run, only when it's actually needed, and is
+ * shared by every caller.
+ */
+final class BucketLookup {
+
+    private static final Map<S3Client, List<Bucket>> listings = new MapMaker().weakKeys().makeMap();
+
+    private BucketLookup() {
+    }
+
+    /**
+     * Returns the bucket with the given name, or {@code null} if it doesn't exist or isn't visible to the caller.
+     */
+    static Bucket find(S3Client client, String name) {
+        try {
+            HeadBucketResponse response = client.headBucket(r -> r.bucket(name));
+            S3BucketRegions.remember(name, response.bucketRegion());
+
+            return Bucket.builder().name(name).bucketRegion(response.bucketRegion()).build();
+
+        } catch (NoSuchBucketException ex) {
+            return null;
+
+        } catch (S3Exception ex) {
+            switch (ex.statusCode()) {
+                case 301:
+                    // Bucket exists in another region.
+                    String region = S3BucketRegions.regionOf(ex);
+
+                    if (region != null) {
+                        S3BucketRegions.remember(name, region);
+
+                        return Bucket.builder().name(name).bucketRegion(region).build();
+                    }
+
+                    // Without the region header, fall back to the listing, which has it.
+                    return list(client).stream().filter(o -> o.name().equals(name)).findFirst().orElse(null);
+
+                case 403:
+                    // Either owned by another account or HeadBucket is denied, so fall back to the listing.
+                    return list(client).stream().filter(o -> o.name().equals(name)).findFirst().orElse(null);
+
+                case 404:
+                    return null;
+
+                default:
+                    throw ex;
+            }
+        }
+    }
+
+    /**
+     * Returns every bucket owned by the caller, listing them the first time they're requested in a run.
+     */
+    static List<Bucket> list(S3Client client) {
+        List<Bucket> buckets = listings.get(client);
+
+        if (buckets == null) {
+            buckets = listings.computeIfAbsent(client, c -> {
+                List<Bucket> listing = new ArrayList<>();
+
+                c.listBucketsPaginator(r -> r.maxBuckets(1000)).buckets().forEach(listing::add);
+
+                return Collections.unmodifiableList(listing);
+            });
+        }
+
+        return buckets;
+    }
+
+    /**
+     * Drops the listing after a bucket has been created or deleted.
+     */
+    static void invalidate(S3Client client) {
+        listings.remove(client);
+    }
+}
@@ -31,14 +31,17 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.psddev.dari.util.CompactMap;
 import com.psddev.dari.util.ObjectUtils;
+import gyro.aws.AwsParallel;
 import gyro.aws.AwsResource;
 import gyro.aws.Copyable;
+import gyro.aws.S3BucketRegions;
 import gyro.core.GyroException;
 import gyro.core.GyroUI;
 import gyro.core.TimeoutSettings;
 import gyro.core.Type;
 import gyro.core.Wait;
 import gyro.core.resource.Id;
+import gyro.core.resource.Output;
 import gyro.core.resource.Resource;
 import gyro.core.resource.Updatable;
 import gyro.core.scope.State;
@@ -54,6 +57,7 @@ import software.amazon.awssdk.services.s3.model.CORSRule;
 import software.amazon.awssdk.services.s3.model.DeleteBucketOwnershipControlsRequest;
 import software.amazon.awssdk.services.s3.model.DeletePublicAccessBlockRequest;
 import software.amazon.awssdk.services.s3.model.GetBucketAccelerateConfigurationResponse;
+import software.amazon.awssdk.services.s3.model.GetBucketAclResponse;
 import software.amazon.awssdk.services.s3.model.GetBucketCorsResponse;
 import software.amazon.awssdk.services.s3.model.GetBucketEncryptionResponse;
 import software.amazon.awssdk.services.s3.model.GetBucketLifecycleConfigurationResponse;
@@ -62,17 +66,16 @@ import software.amazon.awssdk.services.s3.model.GetBucketLoggingResponse;
 import software.amazon.awssdk.services.s3.model.GetBucketPolicyResponse;
 import software.amazon.awssdk.services.s3.model.GetBucketReplicationResponse;
 import software.amazon.awssdk.services.s3.model.GetBucketRequestPaymentResponse;
-import software.amazon.awssdk.services.s3.model.GetBucketTaggingResponse;
 import software.amazon.awssdk.services.s3.model.GetBucketVersioningResponse;
 import software.amazon.awssdk.services.s3.model.LifecycleRule;
 import software.amazon.awssdk.services.s3.model.ListBucketIntelligentTieringConfigurationsRequest;
 import software.amazon.awssdk.services.s3.model.ListBucketIntelligentTieringConfigurationsResponse;
-import software.amazon.awssdk.services.s3.model.ListBucketsResponse;
 import software.amazon.awssdk.services.s3.model.NoSuchBucketException;
 import software.amazon.awssdk.services.s3.model.ObjectOwnership;
 import software.amazon.awssdk.services.s3.model.OwnershipControls;
 import software.amazon.awssdk.services.s3.model.OwnershipControlsRule;
 import software.amazon.awssdk.services.s3.model.Payer;
+import software.amazon.awssdk.services.s3.model.PublicAccessBlockConfiguration;
 import software.amazon.awssdk.services.s3.model.PutBucketOwnershipControlsRequest;
 import software.amazon.awssdk.services.s3.model.PutPublicAccessBlockRequest;
 import software.amazon.awssdk.services.s3.model.S3Exception;
@@ -375,6 +378,8 @@ import software.amazon.awssdk.utils.IoUtils;
 @Type("s3-bucket")
 public class BucketResource extends AwsResource implements Copyable<Bucket> {
 
+    private static final int S3_LOAD_CONCURRENCY = 32;
+
     private String name;
     private Boolean enableObjectLock;
     private Map<String, String> tags;
@@ -393,6 +398,10 @@ public class BucketResource extends AwsResource implements Copyable<Bucket> {
     private S3PublicAccessBlockConfiguration publicAccessBlockConfiguration;
     private ObjectOwnership objectOwnership;
 
+    // -- Readonly
+
+    private String region;
+
     /**
      * The name of the bucket.
      */
@@ -636,29 +645,49 @@ public class BucketResource extends AwsResource implements Copyable<Bucket> {
         this.objectOwnership = objectOwnership;
     }
 
+    /**
+     * The region where the bucket resides.
+     */
+    @Output
+    public String getRegion() {
+        return region;
+    }
+
+    public void setRegion(String region) {
+        this.region = region;
+    }
+
     @Override
     public void copyFrom(Bucket bucket) {
-        S3Client client = createClient(S3Client.class);
         setName(bucket.name());
-        loadTags(client);
-        loadAccelerateConfig(client);
-        loadEnableVersioning(client);
-        loadRequestPayer(client);
-        loadCorsRules(client);
-        loadLifecycleRules(client);
-        loadBucketLogging(client);
-        loadReplicationConfiguration(client);
-        loadBucketEncryptionConfiguration(client);
-        loadPolicy(client);
-        loadAccessControlPolicy(client);
-        loadIntelligentTieringConfiguration(client);
-        loadPublicAccessBlockConfiguration(client);
-        loadObjectOwnership(client);
+
+        if (!ObjectUtils.isBlank(bucket.bucketRegion())) {
+            setRegion(bucket.bucketRegion());
+        }
+
+        S3Client client = createBucketClient();
+
+        AwsParallel.load(
+            AwsParallel.budget("s3", S3_LOAD_CONCURRENCY),
+            () -> loadTags(client),
+            () -> loadAccelerateConfig(client),
+            () -> loadEnableVersioning(client),
+            () -> loadRequestPayer(client),
+            () -> loadCorsRules(client),
+            () -> loadLifecycleRules(client),
+            () -> loadBucketLogging(client),
+            () -> loadReplicationConfiguration(client),
+            () -> loadBucketEncryptionConfiguration(client),
+            () -> loadPolicy(client),
+            () -> loadAccessControlPolicy(client),
+            () -> loadIntelligentTieringConfiguration(client),
+            () -> loadPublicAccessBlockConfiguration(client),
+            () -> loadObjectOwnership(client));
     }
 
     @Override
     public boolean refresh() {
-        S3Client client = createClient(S3Client.class);
+        S3Client client = ObjectUtils.isBlank(getRegion()) ? createClient(S3Client.class) : createBucketClient();
 
         Bucket bucket = getBucket(client);
 
@@ -666,7 +695,17 @@ public class BucketResource extends AwsResource implements Copyable<Bucket> {
             return false;
         }
 
-        this.copyFrom(bucket);
+        try {
+            this.copyFrom(bucket);
+
+        } catch (S3Exception ex) {
+            // Deleted while its configuration was being loaded.
+            if (!"NoSuchBucket".equals(ex.awsErrorDetails().errorCode())) {
+                throw ex;
+            }
+
+            return false;
+        }
 
         return true;
     }
@@ -674,12 +713,16 @@ public class BucketResource extends AwsResource implements Copyable<Bucket> {
     @Override
     public void create(GyroUI ui, State state) {
         S3Client client = createClient(S3Client.class);
+        setRegion(client.serviceClientConfiguration().region().id());
+        S3BucketRegions.remember(getName(), getRegion());
 
         client.createBucket(
             r -> r.bucket(getName())
                 .objectLockEnabledForBucket(getEnableObjectLock())
         );
 
+        BucketLookup.invalidate(client);
+
         state.save();
 
         Wait.atMost(10, TimeUnit.SECONDS)
@@ -745,7 +788,7 @@ public class BucketResource extends AwsResource implements Copyable<Bucket> {
 
     @Override
     public void update(GyroUI ui, State state, Resource current, Set<String> changedFieldNames) {
-        S3Client client = createClient(S3Client.class);
+        S3Client client = createBucketClient();
 
         if (changedFieldNames.contains("tags")) {
             saveTags(client);
@@ -801,51 +844,42 @@ public class BucketResource extends AwsResource implements Copyable<Bucket> {
 
     @Override
     public void delete(GyroUI ui, State state) {
-        S3Client client = createClient(S3Client.class);
+        S3Client client = createBucketClient();
         client.deleteBucket(
             r -> r.bucket(getName())
         );
+
+        BucketLookup.invalidate(createClient(S3Client.class));
+        S3BucketRegions.forget(getName());
     }
 
     private Bucket getBucket(S3Client client) {
-        Bucket bucket = null;
-
         if (ObjectUtils.isBlank(getName())) {
             throw new GyroException("Bucket name is missing, unable to load bucket.");
         }
 
-        try {
-            ListBucketsResponse listBucketsResponse = client.listBuckets();
-
-            bucket = listBucketsResponse.buckets().stream().filter(o -> o.name().equals(getName())).findFirst().orElse(null);
-
-        } catch (S3Exception ex) {
-            if (!ex.getLocalizedMessage().contains("does not exist")) {
-                throw ex;
-            }
-
-        }
-
-        return bucket;
+        return BucketLookup.find(client, getName());
     }
 
-    private void loadTags(S3Client client) {
-        try {
-            GetBucketTaggingResponse bucketTagging = client.getBucketTagging(
-                r -> r.bucket(getName())
-            );
+    private Runnable loadTags(S3Client client) {
+        List<Tag> tagSet;
 
-            for (Tag tag : bucketTagging.tagSet()) {
-                getTags().put(tag.key(), tag.value());
-            }
+        try {
+            tagSet = client.getBucketTagging(r -> r.bucket(getName())).tagSet();
 
         } catch (S3Exception s3ex) {
             if (s3ex.awsErrorDetails().errorCode().equals("NoSuchTagSet")) {
-                getTags().clear();
+                return () -> getTags().clear();
             } else {
                 throw s3ex;
             }
         }
+
+        return () -> {
+            for (Tag tag : tagSet) {
+                getTags().put(tag.key(), tag.value());
+            }
+        };
     }
 
     private void saveTags(S3Client client) {
@@ -869,19 +903,21 @@ public class BucketResource extends AwsResource implements Copyable<Bucket> {
         }
     }
 
-    private void loadAccelerateConfig(S3Client client) {
+    private Runnable loadAccelerateConfig(S3Client client) {
         try {
             GetBucketAccelerateConfigurationResponse response = client.getBucketAccelerateConfiguration(
                 r -> r.bucket(getName()).build()
             );
 
-            setEnableAccelerateConfig(
+            return () -> setEnableAccelerateConfig(
                 response.status() != null && response.status().equals(BucketAccelerateStatus.ENABLED));
         } catch (S3Exception ex) {
             // This error is thrown when trying to loadAccelerateConfig in regions where accelerate config is disabled
             if (!ex.awsErrorDetails().errorCode().contains("MethodNotAllowed")) {
                 throw ex;
             }
+
+            return () -> { };
         }
     }
 
@@ -892,11 +928,13 @@ public class BucketResource extends AwsResource implements Copyable<Bucket> {
         ));
     }
 
-    private void loadEnableVersioning(S3Client client) {
+    private Runnable loadEnableVersioning(S3Client client) {
         GetBucketVersioningResponse response = client.getBucketVersioning(
             r -> r.bucket(getName())
         );
-        setEnableVersioning(response.status() != null && response.status().equals(BucketVersioningStatus.ENABLED));
+
+        return () -> setEnableVersioning(
+            response.status() != null && response.status().equals(BucketVersioningStatus.ENABLED));
     }
 
     private void saveEnableVersioning(S3Client client) {
@@ -909,12 +947,12 @@ public class BucketResource extends AwsResource implements Copyable<Bucket> {
         );
     }
 
-    private void loadRequestPayer(S3Client client) {
+    private Runnable loadRequestPayer(S3Client client) {
         GetBucketRequestPaymentResponse response = client.getBucketRequestPayment(
             r -> r.bucket(getName()).build()
         );
 
-        setRequestPayer(response.payer().name());
+        return () -> setRequestPayer(response.payer().name());
     }
 
     private void saveRequestPayer(S3Client client) {
@@ -927,22 +965,26 @@ public class BucketResource extends AwsResource implements Copyable<Bucket> {
         );
     }
 
-    private void loadCorsRules(S3Client client) {
+    private Runnable loadCorsRules(S3Client client) {
         try {
             GetBucketCorsResponse response = client.getBucketCors(
                 r -> r.bucket(getName())
             );
 
-            getCorsRule().clear();
-            for (CORSRule corsRule : response.corsRules()) {
-                S3CorsRule s3CorsRule = newSubresource(S3CorsRule.class);
-                s3CorsRule.copyFrom(corsRule);
-                getCorsRule().add(s3CorsRule);
-            }
+            return () -> {
+                getCorsRule().clear();
+                for (CORSRule corsRule : response.corsRules()) {
+                    S3CorsRule s3CorsRule = newSubresource(S3CorsRule.class);
+                    s3CorsRule.copyFrom(corsRule);
+                    getCorsRule().add(s3CorsRule);
+                }
+            };
         } catch (S3Exception ex) {
             if (!ex.awsErrorDetails().errorCode().equals("NoSuchCORSConfiguration")) {
                 throw ex;
             }
+
+            return () -> { };
         }
     }
 
@@ -970,23 +1012,25 @@ public class BucketResource extends AwsResource implements Copyable<Bucket> {
     private boolean isCorsSaved(S3Client client) {
         BucketResource bucketResource = new BucketResource();
         bucketResource.setName(getName());
-        bucketResource.loadCorsRules(client);
+        bucketResource.loadCorsRules(client).run();
 
         Set<String> currentCors = bucketResource.getCorsRule().stream().map(S3CorsRule::primaryKey).collect(Collectors.toSet());
         return getCorsRule().stream().allMatch(o -> currentCors.contains(o.primaryKey()));
     }
 
-    private void loadBucketLogging(S3Client client) {
+    private Runnable loadBucketLogging(S3Client client) {
         GetBucketLoggingResponse response = client.getBucketLogging(
                 r -> r.bucket(getName()).build()
         );
 
-        if (response.loggingEnabled() != null) {
-            setLogging(newSubresource(S3LoggingEnabled.class));
-            getLogging().copyFrom(response.loggingEnabled());
-        } else {
-            setLogging(null);
-        }
+        return () -> {
+            if (response.loggingEnabled() != null) {
+                setLogging(newSubresource(S3LoggingEnabled.class));
+                getLogging().copyFrom(response.loggingEnabled());
+            } else {
+                setLogging(null);
+            }
+        };
     }
 
     private void saveBucketLogging(S3Client client) {
@@ -1005,22 +1049,26 @@ public class BucketResource extends AwsResource implements Copyable<Bucket> {
         }
     }
 
-    private void loadLifecycleRules(S3Client client) {
+    private Runnable loadLifecycleRules(S3Client client) {
         try {
             GetBucketLifecycleConfigurationResponse response = client.getBucketLifecycleConfiguration(
                 r -> r.bucket(getName())
             );
 
-            getLifecycleRule().clear();
-            for (LifecycleRule lifecycleRule : response.rules()) {
-                S3LifecycleRule s3LifecycleRule = newSubresource(S3LifecycleRule.class);
-                s3LifecycleRule.copyFrom(lifecycleRule);
-                getLifecycleRule().add(s3LifecycleRule);
-            }
+            return () -> {
+                getLifecycleRule().clear();
+                for (LifecycleRule lifecycleRule : response.rules()) {
+                    S3LifecycleRule s3LifecycleRule = newSubresource(S3LifecycleRule.class);
+                    s3LifecycleRule.copyFrom(lifecycleRule);
+                    getLifecycleRule().add(s3LifecycleRule);
+                }
+            };
         } catch (S3Exception ex) {
             if (!ex.awsErrorDetails().errorCode().equals("NoSuchLifecycleConfiguration")) {
                 throw ex;
             }
+
+            return () -> { };
         }
     }
 
@@ -1039,20 +1087,22 @@ public class BucketResource extends AwsResource implements Copyable<Bucket> {
         }
     }
 
-    private void loadReplicationConfiguration(S3Client client) {
+    private Runnable loadReplicationConfiguration(S3Client client) {
         try {
             GetBucketReplicationResponse response = client.getBucketReplication(
                 r -> r.bucket(getName())
             );
 
-            setReplicationConfiguration(newSubresource(S3ReplicationConfiguration.class));
-            getReplicationConfiguration().copyFrom(response.replicationConfiguration());
+            return () -> {
+                setReplicationConfiguration(newSubresource(S3ReplicationConfiguration.class));
+                getReplicationConfiguration().copyFrom(response.replicationConfiguration());
+            };
 
         } catch (S3Exception ex) {
             if (!ex.awsErrorDetails().errorCode().equals("ReplicationConfigurationNotFoundError")) {
                 throw ex;
             } else {
-                setReplicationConfiguration(null);
+                return () -> setReplicationConfiguration(null);
             }
         }
     }
@@ -1070,19 +1120,21 @@ public class BucketResource extends AwsResource implements Copyable<Bucket> {
         }
     }
 
-    private void loadBucketEncryptionConfiguration(S3Client client) {
+    private Runnable loadBucketEncryptionConfiguration(S3Client client) {
         try {
             GetBucketEncryptionResponse bucketEncryption = client.getBucketEncryption(r -> r.bucket(getName()));
 
-            S3ServerSideEncryptionConfiguration encryptionConfig = newSubresource(S3ServerSideEncryptionConfiguration.class);
-            encryptionConfig.copyFrom(bucketEncryption.serverSideEncryptionConfiguration());
-            setEncryptionConfiguration(encryptionConfig);
+            return () -> {
+                S3ServerSideEncryptionConfiguration encryptionConfig = newSubresource(S3ServerSideEncryptionConfiguration.class);
+                encryptionConfig.copyFrom(bucketEncryption.serverSideEncryptionConfiguration());
+                setEncryptionConfiguration(encryptionConfig);
+            };
 
         } catch (S3Exception ex) {
             if (!ex.awsErrorDetails().errorCode().equals("ServerSideEncryptionConfigurationNotFoundError")) {
                 throw ex;
             } else {
-                setEncryptionConfiguration(null);
+                return () -> setEncryptionConfiguration(null);
             }
         }
     }
@@ -1097,16 +1149,16 @@ public class BucketResource extends AwsResource implements Copyable<Bucket> {
         }
     }
 
-    private void loadPolicy(S3Client client) {
+    private Runnable loadPolicy(S3Client client) {
         try {
             GetBucketPolicyResponse bucketPolicy = client.getBucketPolicy(r -> r.bucket(getName()));
-            setPolicy(bucketPolicy.policy());
+            return () -> setPolicy(bucketPolicy.policy());
 
         } catch (S3Exception ex) {
             if (!ex.awsErrorDetails().errorCode().equals("NoSuchBucketPolicy")) {
                 throw ex;
             } else {
-                setPolicy(null);
+                return () -> setPolicy(null);
             }
         }
     }
@@ -1120,10 +1172,14 @@ public class BucketResource extends AwsResource implements Copyable<Bucket> {
         }
     }
 
-    private void loadAccessControlPolicy(S3Client client) {
-        S3AccessControlPolicy policy = newSubresource(S3AccessControlPolicy.class);
-        policy.copyFrom(client.getBucketAcl(a -> a.bucket(getName())));
-        setAccessControlPolicy(policy);
+    private Runnable loadAccessControlPolicy(S3Client client) {
+        GetBucketAclResponse response = client.getBucketAcl(a -> a.bucket(getName()));
+
+        return () -> {
+            S3AccessControlPolicy policy = newSubresource(S3AccessControlPolicy.class);
+            policy.copyFrom(response);
+            setAccessControlPolicy(policy);
+        };
     }
 
     private void saveAccessControlPolicy(S3Client client) {
@@ -1137,9 +1193,9 @@ public class BucketResource extends AwsResource implements Copyable<Bucket> {
         }
     }
 
-    private void loadIntelligentTieringConfiguration(S3Client client) {
+    private Runnable loadIntelligentTieringConfiguration(S3Client client) {
         String nextToken = null;
-        getIntelligentTieringConfiguration().clear();
+        List<software.amazon.awssdk.services.s3.model.IntelligentTieringConfiguration> configs = new ArrayList<>();
 
         do {
             ListBucketIntelligentTieringConfigurationsRequest.Builder request = ListBucketIntelligentTieringConfigurationsRequest.builder()
@@ -1153,12 +1209,17 @@ public class BucketResource extends AwsResource implements Copyable<Bucket> {
                 .listBucketIntelligentTieringConfigurations(request.build());
 
             nextToken = response.continuationToken();
-            getIntelligentTieringConfiguration().addAll(response.intelligentTieringConfigurationList().stream().map(config -> {
+            configs.addAll(response.intelligentTieringConfigurationList());
+        } while (!StringUtils.isBlank(nextToken));
+
+        return () -> {
+            getIntelligentTieringConfiguration().clear();
+            getIntelligentTieringConfiguration().addAll(configs.stream().map(config -> {
                 IntelligentTieringConfiguration configObj = newSubresource(IntelligentTieringConfiguration.class);
                 configObj.copyFrom(config);
                 return configObj;
             }).collect(Collectors.toList()));
-        } while (!StringUtils.isBlank(nextToken));
+        };
     }
 
     private void saveIntelligentTieringConfiguration(S3Client client, List<IntelligentTieringConfiguration> oldConfigs) {
@@ -1179,23 +1240,28 @@ public class BucketResource extends AwsResource implements Copyable<Bucket> {
         });
     }
 
-    private void loadPublicAccessBlockConfiguration(S3Client client) {
+    private Runnable loadPublicAccessBlockConfiguration(S3Client client) {
         try {
-            S3PublicAccessBlockConfiguration config = newSubresource(S3PublicAccessBlockConfiguration.class);
-            config.copyFrom(client.getPublicAccessBlock(a -> a.bucket(getName())).publicAccessBlockConfiguration());
-            setPublicAccessBlockConfiguration(config);
+            PublicAccessBlockConfiguration response = client.getPublicAccessBlock(a -> a.bucket(getName()))
+                .publicAccessBlockConfiguration();
+
+            return () -> {
+                S3PublicAccessBlockConfiguration config = newSubresource(S3PublicAccessBlockConfiguration.class);
+                config.copyFrom(response);
+                setPublicAccessBlockConfiguration(config);
+            };
 
         } catch (S3Exception ex) {
             if (!ex.awsErrorDetails().errorCode().equals("NoSuchPublicAccessBlockConfiguration")) {
                 throw ex;
 
             } else {
-                setPublicAccessBlockConfiguration(null);
+                return () -> setPublicAccessBlockConfiguration(null);
             }
         }
     }
 
-    private void loadObjectOwnership(S3Client client) {
+    private Runnable loadObjectOwnership(S3Client client) {
         ObjectOwnership ownership = null;
 
         try {
@@ -1212,7 +1278,8 @@ public class BucketResource extends AwsResource implements Copyable<Bucket> {
             }
         }
 
-        setObjectOwnership(ownership);
+        ObjectOwnership objectOwnership = ownership;
+        return () -> setObjectOwnership(objectOwnership);
     }
 
     private void savePublicAccessBlockConfiguration(S3Client client) {
@@ -1238,7 +1305,35 @@ public class BucketResource extends AwsResource implements Copyable<Bucket> {
         return String.format("%s.s3.%s.amazonaws.com", getName(), getBucketRegion(client));
     }
 
+    /**
+     * Returns a client for the region the bucket resides in, using the region saved in the state when there is one.
+     */
+    private S3Client createBucketClient() {
+        S3BucketRegions.remember(getName(), getRegion());
+
+        S3Client client = createClient(S3Client.class);
+        String bucketRegion = S3BucketRegions.regionOf(client, getName());
+
+        if (bucketRegion == null) {
+            return client;
+        }
+
+        setRegion(bucketRegion);
+
+        return createClient(S3Client.class, bucketRegion, null);
+    }
+
     private String getBucketRegion(S3Client client) {
+        if (!ObjectUtils.isBlank(getRegion())) {
+            return getRegion();
+        }
+
+        String bucketRegion = S3BucketRegions.regionOf(client, getName());
+
+        if (bucketRegion != null) {
+            return bucketRegion;
+        }
+
         try {
             GetBucketLocationResponse response = client.getBucketLocation(r -> r.bucket(getName()));
             return ObjectUtils.isBlank(response.locationConstraintAsString()) ? "us-east-1" : response.locationConstraintAsString();
@@ -21,12 +21,13 @@ import gyro.aws.AwsFinder;
 import gyro.core.Type;
 
 import software.amazon.awssdk.services.sns.SnsClient;
+import software.amazon.awssdk.services.sns.model.InvalidParameterException;
+import software.amazon.awssdk.services.sns.model.NotFoundException;
 import software.amazon.awssdk.services.sns.model.Subscription;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * Query SNS subscriptions.
@@ -42,6 +43,7 @@ import java.util.stream.Collectors;
 public class SubscriptionFinder extends AwsFinder<SnsClient, Subscription, SubscriptionResource> {
 
     private String arn;
+    private String topicArn;
 
     /**
      * The arn of the subscription.
@@ -54,15 +56,44 @@ public class SubscriptionFinder extends AwsFinder<SnsClient, Subscription, Subsc
         this.arn = arn;
     }
 
+    /**
+     * The arn of the topic the subscriptions belong to.
+     */
+    public String getTopicArn() {
+        return topicArn;
+    }
+
+    public void setTopicArn(String topicArn) {
+        this.topicArn = topicArn;
+    }
+
     @Override
     protected List<Subscription> findAws(SnsClient client, Map<String, String> filters) {
         List<Subscription> targetSubscription = new ArrayList<>();
 
         if (filters.containsKey("arn") && !ObjectUtils.isBlank(filters.get("arn"))) {
-            targetSubscription.addAll(client.listSubscriptionsPaginator()
-                .subscriptions().stream()
-                .filter(o -> o.subscriptionArn().equals(filters.get("arn")))
-                .collect(Collectors.toList()));
+            SubscriptionIndex index = SubscriptionIndex.getIfListed(client);
+
+            if (index != null) {
+                // Already listed in this run, so there's no need for another call.
+                Subscription subscription = index.byArn(filters.get("arn"));
+
+                if (subscription != null) {
+                    targetSubscription.add(subscription);
+                }
+
+            } else {
+                try {
+                    targetSubscription.add(SubscriptionIndex.fromAttributes(client.getSubscriptionAttributes(
+                        r -> r.subscriptionArn(filters.get("arn"))).attributes()));
+
+                } catch (NotFoundException | InvalidParameterException ignore) {
+                    // Subscription doesn't exist.
+                }
+            }
+
+        } else if (filters.containsKey("topic-arn") && !ObjectUtils.isBlank(filters.get("topic-arn"))) {
+            targetSubscription.addAll(SubscriptionIndex.get(client).byTopic(filters.get("topic-arn")));
         }
 
         return targetSubscription;
@@ -70,6 +101,6 @@ public class SubscriptionFinder extends AwsFinder<SnsClient, Subscription, Subsc
 
     @Override
     protected List<Subscription> findAllAws(SnsClient client) {
-        return client.listSubscriptionsPaginator().subscriptions().stream().collect(Collectors.toList());
+        return new ArrayList<>(SubscriptionIndex.get(client).all());
     }
 }
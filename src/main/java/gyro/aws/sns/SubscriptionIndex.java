@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026, Brightspot.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package gyro.aws.sns;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.MapMaker;
+import software.amazon.awssdk.services.sns.SnsClient;
+import software.amazon.awssdk.services.sns.model.Subscription;
+
+/**
+ * Every subscription in the account, listed at most once per client per run and indexed by subscription ARN and by
+ * topic ARN.
+ * Only used when a scan can't be avoided, single subscriptions are looked up with {@code GetSubscriptionAttributes}.
+ */
+final class SubscriptionIndex {
+
+    private static final Map<SnsClient, SubscriptionIndex> indexes = new MapMaker().weakKeys().makeMap();
+
+    private final List<Subscription> subscriptions;
+    private final Map<String, Subscription> byArn = new HashMap<>();
+    private final Map<String, List<Subscription>> byTopic = new HashMap<>();
+
+    private SubscriptionIndex(SnsClient client) {
+        List<Subscription> listing = new ArrayList<>();
+
+        client.listSubscriptionsPaginator().subscriptions().forEach(listing::add);
+
+        for (Subscription subscription : listing) {
+            byArn.put(subscription.subscriptionArn(), subscription);
+            byTopic.computeIfAbsent(subscription.topicArn(), t -> new ArrayList<>()).add(subscription);
+        }
+
+        this.subscriptions = Collections.unmodifiableList(listing);
+    }
+
+    static SubscriptionIndex get(SnsClient client) {
+        SubscriptionIndex index = indexes.get(client);
+
+        if (index == null) {
+            index = indexes.computeIfAbsent(client, SubscriptionIndex::new);
+        }
+
+        return index;
+    }
+
+    /**
+     * Returns the index if it's already been listed in this run, or {@code null}.
+     */
+    static SubscriptionIndex getIfListed(SnsClient client) {
+        return indexes.get(client);
+    }
+
+    /**
+     * Drops the index after a subscription has been created or deleted.
+     */
+    static void invalidate(SnsClient client) {
+        indexes.remove(client);
+    }
+
+    List<Subscription> all() {
+        return subscriptions;
+    }
+
+    Subscription byArn(String subscriptionArn) {
+        return byArn.get(subscriptionArn);
+    }
+
+    List<Subscription> byTopic(String topicArn) {
+        return byTopic.getOrDefault(topicArn, Collections.emptyList());
+    }
+
+    /**
+     * Builds a subscription from the attributes returned by {@code GetSubscriptionAttributes}.
+     */
+    static Subscription fromAttributes(Map<String, String> attributes) {
+        return Subscription.builder()
+            .subscriptionArn(attributes.get("SubscriptionArn"))
+            .topicArn(attributes.get("TopicArn"))
+            .endpoint(attributes.get("Endpoint"))
+            .protocol(attributes.get("Protocol"))
+            .owner(attributes.get("Owner"))
+            .build();
+    }
+}
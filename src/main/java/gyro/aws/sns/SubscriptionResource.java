@@ -38,6 +38,8 @@ import gyro.core.scope.State;
 import gyro.core.validation.Required;
 import software.amazon.awssdk.services.sns.SnsClient;
 import software.amazon.awssdk.services.sns.model.GetSubscriptionAttributesResponse;
+import software.amazon.awssdk.services.sns.model.InvalidParameterException;
+import software.amazon.awssdk.services.sns.model.NotFoundException;
 import software.amazon.awssdk.services.sns.model.SubscribeResponse;
 import software.amazon.awssdk.services.sns.model.Subscription;
 import software.amazon.awssdk.utils.IoUtils;
@@ -170,13 +172,17 @@ public class SubscriptionResource extends AwsResource implements Copyable<Subscr
 
         GetSubscriptionAttributesResponse response = client.getSubscriptionAttributes(r -> r.subscriptionArn(subscription.subscriptionArn()));
 
+        copyFrom(subscription, response.attributes());
+    }
+
+    private void copyFrom(Subscription subscription, Map<String, String> attributes) {
         //The list of attributes is much larger than what can be set.
         //Only those that can be set are extracted out of the list of attributes.
-        setDeliveryPolicy(response.attributes().getOrDefault("DeliveryPolicy", null));
-        setFilterPolicy(response.attributes().getOrDefault("FilterPolicy", null));
-        setRawMessageDelivery(response.attributes().get("RawMessageDelivery").equalsIgnoreCase("true"));
+        setDeliveryPolicy(attributes.getOrDefault("DeliveryPolicy", null));
+        setFilterPolicy(attributes.getOrDefault("FilterPolicy", null));
+        setRawMessageDelivery(attributes.get("RawMessageDelivery").equalsIgnoreCase("true"));
 
-        setTopic(findById(TopicResource.class, response.attributes().get("TopicArn")));
+        setTopic(findById(TopicResource.class, attributes.get("TopicArn")));
         setSubscriptionArn(subscription.subscriptionArn());
         setEndpoint(subscription.endpoint());
         setProtocol(subscription.protocol());
@@ -186,17 +192,16 @@ public class SubscriptionResource extends AwsResource implements Copyable<Subscr
     public boolean refresh() {
         SnsClient client = createClient(SnsClient.class);
 
-        Subscription subscription = client.listSubscriptionsPaginator()
-            .subscriptions().stream()
-            .filter(o -> o.subscriptionArn().equals(getSubscriptionArn()))
-            .findFirst()
-            .orElse(null);
+        Map<String, String> attributes;
+
+        try {
+            attributes = client.getSubscriptionAttributes(r -> r.subscriptionArn(getSubscriptionArn())).attributes();
 
-        if (subscription == null) {
+        } catch (NotFoundException | InvalidParameterException ex) {
             return false;
         }
 
-        copyFrom(subscription);
+        copyFrom(SubscriptionIndex.fromAttributes(attributes), attributes);
 
         return true;
     }
@@ -211,6 +216,7 @@ public class SubscriptionResource extends AwsResource implements Copyable<Subscr
                 .topicArn(getTopic().getArn()));
 
         setSubscriptionArn(subscribeResponse.subscriptionArn());
+        SubscriptionIndex.invalidate(client);
     }
 
     @Override
@@ -249,6 +255,7 @@ public class SubscriptionResource extends AwsResource implements Copyable<Subscr
         SnsClient client = createClient(SnsClient.class);
 
         client.unsubscribe(r -> r.subscriptionArn(getSubscriptionArn()));
+        SubscriptionIndex.invalidate(client);
     }
 
     private Map<String, String> getSubscriptionAttributes() {
@@ -21,6 +21,8 @@ import gyro.aws.AwsFinder;
 import gyro.core.Type;
 
 import software.amazon.awssdk.services.sns.SnsClient;
+import software.amazon.awssdk.services.sns.model.InvalidParameterException;
+import software.amazon.awssdk.services.sns.model.NotFoundException;
 import software.amazon.awssdk.services.sns.model.Topic;
 
 import java.util.ArrayList;
@@ -59,7 +61,13 @@ public class TopicFinder extends AwsFinder<SnsClient, Topic, TopicResource> {
         List<Topic> topics = new ArrayList<>();
 
         if (filters.containsKey("arn") && !ObjectUtils.isBlank(filters.get("arn"))) {
-            topics.addAll(client.listTopicsPaginator().topics().stream().filter(o -> o.topicArn().equals(filters.get("arn"))).collect(Collectors.toList()));
+            try {
+                client.getTopicAttributes(r -> r.topicArn(filters.get("arn")));
+                topics.add(Topic.builder().topicArn(filters.get("arn")).build());
+
+            } catch (NotFoundException | InvalidParameterException ignore) {
+                // Topic doesn't exist.
+            }
         }
 
         return topics;
@@ -42,6 +42,8 @@ import org.apache.commons.lang3.StringUtils;
 import software.amazon.awssdk.services.sns.SnsClient;
 import software.amazon.awssdk.services.sns.model.CreateTopicResponse;
 import software.amazon.awssdk.services.sns.model.GetTopicAttributesResponse;
+import software.amazon.awssdk.services.sns.model.InvalidParameterException;
+import software.amazon.awssdk.services.sns.model.NotFoundException;
 import software.amazon.awssdk.services.sns.model.Tag;
 import software.amazon.awssdk.services.sns.model.TagResourceRequest;
 import software.amazon.awssdk.services.sns.model.Topic;
@@ -175,14 +177,18 @@ public class TopicResource extends AwsResource implements Copyable<Topic> {
 
         GetTopicAttributesResponse attributesResponse = client.getTopicAttributes(r -> r.topicArn(topic.topicArn()));
 
+        copyFrom(client, attributesResponse.attributes());
+    }
+
+    private void copyFrom(SnsClient client, Map<String, String> attributes) {
         //The list of attributes is much larger than what can be set.
         //Only those that can be set are extracted out of the list of attributes.
-        setDisplayName(attributesResponse.attributes().get("DisplayName"));
-        setPolicy(attributesResponse.attributes().get("Policy"));
-        setDeliveryPolicy(attributesResponse.attributes().get("DeliveryPolicy"));
-        setKmsMasterKeyId(attributesResponse.attributes().get("KmsMasterKeyId"));
+        setDisplayName(attributes.get("DisplayName"));
+        setPolicy(attributes.get("Policy"));
+        setDeliveryPolicy(attributes.get("DeliveryPolicy"));
+        setKmsMasterKeyId(attributes.get("KmsMasterKeyId"));
 
-        setArn(attributesResponse.attributes().get("TopicArn"));
+        setArn(attributes.get("TopicArn"));
         setName(getArn().split(":")[getArn().split(":").length - 1]);
 
         getTags().clear();
@@ -194,13 +200,16 @@ public class TopicResource extends AwsResource implements Copyable<Topic> {
     public boolean refresh() {
         SnsClient client = createClient(SnsClient.class);
 
-        Topic topic = client.listTopicsPaginator().topics().stream().filter(o -> o.topicArn().equals(getArn())).findFirst().orElse(null);
+        GetTopicAttributesResponse attributesResponse;
+
+        try {
+            attributesResponse = client.getTopicAttributes(r -> r.topicArn(getArn()));
 
-        if (topic == null) {
+        } catch (NotFoundException | InvalidParameterException ex) {
             return false;
         }
 
-        copyFrom(topic);
+        copyFrom(client, attributesResponse.attributes());
 
         return true;
     }
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2026, Brightspot.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package gyro.aws.ssm;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.MapMaker;
+import gyro.aws.AwsParallel;
+import software.amazon.awssdk.services.ssm.SsmClient;
+import software.amazon.awssdk.services.ssm.model.InvalidResourceIdException;
+import software.amazon.awssdk.services.ssm.model.Parameter;
+import software.amazon.awssdk.services.ssm.model.ParameterMetadata;
+import software.amazon.awssdk.services.ssm.model.ParameterStringFilter;
+import software.amazon.awssdk.services.ssm.model.ResourceTypeForTagging;
+import software.amazon.awssdk.services.ssm.model.SsmException;
+import software.amazon.awssdk.services.ssm.model.Tag;
+
+/**
+ * Resolves the refresh of many SSM parameters at once, shared by every {@link SsmParameterResource} in a run. The
+ * first refresh loads the requested parameter together with every other pending one: metadata with
+ * {@code DescribeParameters} for up to {@link #DESCRIBE_NAMES_MAX} names per call, values with {@code GetParameters}
+ * for up to {@link #GET_NAMES_MAX} names per call, and whole folders with {@code GetParametersByPath} when at least
+ * {@link #PATH_THRESHOLD} pending parameters share one. Tags have no batch API, so they're listed per parameter with
+ * more requests in flight when the account has the high throughput tier enabled.
+ */
+final class ParameterBatch {
+
+    static final int DESCRIBE_NAMES_MAX = 50;
+    static final int GET_NAMES_MAX = 10;
+    static final int PATH_THRESHOLD = 20;
+    static final int STANDARD_TAG_PARALLELISM = 2;
+    static final int HIGH_THROUGHPUT_TAG_PARALLELISM = 8;
+
+    private static final String HIGH_THROUGHPUT_SETTING = "/ssm/parameter-store/high-throughput-enabled";
+
+    private static final Map<SsmClient, ParameterBatch> batches = new MapMaker().weakKeys().makeMap();
+
+    private final SsmClient client;
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final Set<String> missing = new HashSet<>();
+    private Integer tagParallelism;
+
+    private ParameterBatch(SsmClient client) {
+        this.client = client;
+    }
+
+    static ParameterBatch get(SsmClient client) {
+        ParameterBatch batch = batches.get(client);
+
+        if (batch == null) {
+            batch = batches.computeIfAbsent(client, ParameterBatch::new);
+        }
+
+        return batch;
+    }
+
+    /**
+     * Drops the parameter after it's been created, changed or deleted so that the next refresh reads it again.
+     */
+    static void invalidate(SsmClient client, String name) {
+        ParameterBatch batch = batches.get(client);
+
+        if (batch != null) {
+            synchronized (batch) {
+                batch.entries.remove(name);
+                batch.missing.remove(name);
+            }
+        }
+    }
+
+    /**
+     * Returns the parameter, or {@code null} if it doesn't exist, loading it along with the other pending names that
+     * haven't been loaded yet. The pending names are only looked up when the parameter has to be loaded.
+     */
+    synchronized Entry load(String name, Supplier<? extends Collection<String>> pending) {
+        if (!entries.containsKey(name) && !missing.contains(name)) {
+            Set<String> names = new LinkedHashSet<>();
+
+            names.add(name);
+
+            for (String p : pending.get()) {
+                if (p != null && !entries.containsKey(p) && !missing.contains(p)) {
+                    names.add(p);
+                }
+            }
+
+            fetch(names);
+        }
+
+        return entries.get(name);
+    }
+
+    private void fetch(Set<String> names) {
+        Map<String, Entry> fetched = new HashMap<>();
+        Map<String, List<String>> byPath = names.stream()
+            .collect(Collectors.groupingBy(ParameterBatch::parentPath));
+
+        List<String> single = new ArrayList<>();
+
+        for (Map.Entry<String, List<String>> e : byPath.entrySet()) {
+            String path = e.getKey();
+
+            if (!path.isEmpty() && e.getValue().size() >= PATH_THRESHOLD) {
+                fetchPath(path, fetched);
+
+            } else {
+                single.addAll(e.getValue());
+            }
+        }
+
+        for (List<String> chunk : Lists.partition(single, DESCRIBE_NAMES_MAX)) {
+            client.describeParametersPaginator(r -> r.maxResults(DESCRIBE_NAMES_MAX)
+                .parameterFilters(ParameterStringFilter.builder().key("Name").option("Equals").values(chunk).build()))
+                .parameters()
+                .forEach(m -> fetched.computeIfAbsent(m.name(), n -> new Entry()).metadata = m);
+        }
+
+        for (List<String> chunk : Lists.partition(single, GET_NAMES_MAX)) {
+            client.getParameters(r -> r.names(chunk).withDecryption(true))
+                .parameters()
+                .forEach(p -> value(fetched, p));
+        }
+
+        // Folder loads also return parameters nobody asked for, so only the requested ones get their tags listed.
+        List<Entry> found = fetched.values().stream()
+            .filter(f -> f.metadata != null && names.contains(f.metadata.name()))
+            .collect(Collectors.toList());
+
+        List<Entry> tagged = AwsParallel.map(found, tagParallelism(), entry -> {
+            try {
+                entry.tags = client.listTagsForResource(r -> r.resourceId(entry.metadata.name())
+                    .resourceType(ResourceTypeForTagging.PARAMETER))
+                    .tagList()
+                    .stream()
+                    .collect(Collectors.toMap(Tag::key, Tag::value));
+
+                return entry;
+
+            } catch (InvalidResourceIdException ex) {
+                // Deleted since it was described.
+                return null;
+            }
+        });
+
+        for (Entry entry : tagged) {
+            if (entry != null) {
+                entries.put(entry.metadata.name(), entry);
+            }
+        }
+
+        for (String name : names) {
+            if (!entries.containsKey(name)) {
+                missing.add(name);
+            }
+        }
+    }
+
+    private void fetchPath(String path, Map<String, Entry> fetched) {
+        client.describeParametersPaginator(r -> r.maxResults(DESCRIBE_NAMES_MAX)
+            .parameterFilters(ParameterStringFilter.builder().key("Path").option("OneLevel").values(path).build()))
+            .parameters()
+            .forEach(m -> fetched.computeIfAbsent(m.name(), n -> new Entry()).metadata = m);
+
+        client.getParametersByPathPaginator(r -> r.path(path).recursive(false).withDecryption(true))
+            .parameters()
+            .forEach(p -> value(fetched, p));
+    }
+
+    private int tagParallelism() {
+        if (tagParallelism == null) {
+            try {
+                tagParallelism = "true".equalsIgnoreCase(client.getServiceSetting(r -> r.settingId(
+                    HIGH_THROUGHPUT_SETTING)).serviceSetting().settingValue())
+                    ? HIGH_THROUGHPUT_TAG_PARALLELISM
+                    : STANDARD_TAG_PARALLELISM;
+
+            } catch (SsmException ex) {
+                tagParallelism = STANDARD_TAG_PARALLELISM;
+            }
+        }
+
+        return tagParallelism;
+    }
+
+    private static void value(Map<String, Entry> fetched, Parameter parameter) {
+        fetched.computeIfAbsent(parameter.name(), n -> new Entry()).value = parameter.value();
+    }
+
+    private static String parentPath(String name) {
+        int slash = name.lastIndexOf('/');
+
+        return slash > 0 ? name.substring(0, slash) : "";
+    }
+
+    static final class Entry {
+
+        private ParameterMetadata metadata;
+        private String value;
+        private Map<String, String> tags = new HashMap<>();
+
+        ParameterMetadata getMetadata() {
+            return metadata;
+        }
+
+        String getValue() {
+            return value;
+        }
+
+        Map<String, String> getTags() {
+            return tags;
+        }
+    }
+}
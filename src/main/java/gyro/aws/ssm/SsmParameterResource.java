@@ -44,13 +44,13 @@ import software.amazon.awssdk.services.ssm.model.GetParameterResponse;
 import software.amazon.awssdk.services.ssm.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.ssm.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.ssm.model.ParameterMetadata;
+import software.amazon.awssdk.services.ssm.model.ParameterNotFoundException;
 import software.amazon.awssdk.services.ssm.model.ParameterStringFilter;
 import software.amazon.awssdk.services.ssm.model.ParameterTier;
 import software.amazon.awssdk.services.ssm.model.ParameterType;
 import software.amazon.awssdk.services.ssm.model.PutParameterRequest;
 import software.amazon.awssdk.services.ssm.model.PutParameterResponse;
 import software.amazon.awssdk.services.ssm.model.ResourceTypeForTagging;
-import software.amazon.awssdk.services.ssm.model.SsmException;
 import software.amazon.awssdk.services.ssm.model.Tag;
 
 /**
@@ -250,6 +250,30 @@ public class SsmParameterResource extends AwsResource implements Copyable<Parame
 
     @Override
     public void copyFrom(ParameterMetadata model) {
+        copyMetadata(model);
+
+        SsmClient client = createClient(SsmClient.class);
+
+        // refresh value
+        setValue(null);
+        GetParameterResponse response = client.getParameter(
+            GetParameterRequest.builder().name(getParameterName()).withDecryption(true).build());
+        if (response != null && response.parameter() != null) {
+            setValue(response.parameter().value());
+        }
+
+        // refresh tags
+        getTags().clear();
+        ListTagsForResourceResponse tagsResponse =
+            client.listTagsForResource(ListTagsForResourceRequest.builder().resourceId(getArn()).resourceType(
+                ResourceTypeForTagging.PARAMETER).build());
+        if (tagsResponse.hasTagList()) {
+            getTags().putAll(
+                tagsResponse.tagList().stream().collect(java.util.stream.Collectors.toMap(Tag::key, Tag::value)));
+        }
+    }
+
+    private void copyMetadata(ParameterMetadata model) {
         setParameterName(model.name());
         setDescription(model.description());
         setType(model.type());
@@ -281,47 +305,35 @@ public class SsmParameterResource extends AwsResource implements Copyable<Parame
                 getPolicy().add(parameterPolicy);
             });
         }
-
-        SsmClient client = createClient(SsmClient.class);
-
-        // refresh value
-        setValue(null);
-        GetParameterResponse response = client.getParameter(
-            GetParameterRequest.builder().name(getParameterName()).withDecryption(true).build());
-        if (response != null && response.parameter() != null) {
-            setValue(response.parameter().value());
-        }
-
-        // refresh tags
-        getTags().clear();
-        ListTagsForResourceResponse tagsResponse =
-            client.listTagsForResource(ListTagsForResourceRequest.builder().resourceId(getArn()).resourceType(
-                ResourceTypeForTagging.PARAMETER).build());
-        if (tagsResponse.hasTagList()) {
-            getTags().putAll(
-                tagsResponse.tagList().stream().collect(java.util.stream.Collectors.toMap(Tag::key, Tag::value)));
-        }
     }
 
     @Override
     public boolean refresh() {
         SsmClient client = createClient(SsmClient.class);
 
-        try {
-
-            ParameterMetadata metadata = describeParameter(client);
-
-            if (metadata != null) {
-                copyFrom(metadata);
+        ParameterBatch.Entry entry;
 
-                return true;
-            }
+        try {
+            // Load every parameter managed with the same client in one go.
+            entry = ParameterBatch.get(client).load(getParameterName(), () -> findByClass(SsmParameterResource.class)
+                .filter(r -> r.createClient(SsmClient.class) == client)
+                .map(SsmParameterResource::getParameterName)
+                .collect(Collectors.toList()));
+
+        } catch (ParameterNotFoundException ex) {
+            return false;
+        }
 
-        } catch (SsmException ex) {
-            // Ignore
+        if (entry == null) {
+            return false;
         }
 
-        return false;
+        copyMetadata(entry.getMetadata());
+        setValue(entry.getValue());
+        getTags().clear();
+        getTags().putAll(entry.getTags());
+
+        return true;
     }
 
     @Override
@@ -340,6 +352,7 @@ public class SsmParameterResource extends AwsResource implements Copyable<Parame
             .build());
 
         setVersion(response.version());
+        ParameterBatch.invalidate(client, getParameterName());
         ParameterMetadata metadata = describeParameter(client);
         if (metadata != null) {
             setArn(metadata.arn());
@@ -374,6 +387,8 @@ public class SsmParameterResource extends AwsResource implements Copyable<Parame
             client.putParameter(requestBuilder.build());
         }
 
+        ParameterBatch.invalidate(client, getParameterName());
+
         state.save();
 
         if (changedFieldNames.contains("tags")) {
@@ -395,6 +410,7 @@ public class SsmParameterResource extends AwsResource implements Copyable<Parame
     public void delete(GyroUI ui, State state) throws Exception {
         SsmClient client = createClient(SsmClient.class);
         client.deleteParameter(DeleteParameterRequest.builder().name(getParameterName()).build());
+        ParameterBatch.invalidate(client, getParameterName());
     }
 
     private ParameterMetadata describeParameter(SsmClient client) {
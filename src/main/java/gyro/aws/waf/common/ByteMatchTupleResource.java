@@ -30,6 +30,8 @@ import software.amazon.awssdk.services.waf.model.ChangeAction;
 import software.amazon.awssdk.services.waf.model.UpdateByteMatchSetRequest;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 public abstract class ByteMatchTupleResource extends AbstractWafResource implements Copyable<ByteMatchTuple> {
@@ -153,16 +155,20 @@ public abstract class ByteMatchTupleResource extends AbstractWafResource impleme
             .build();
     }
 
-    protected UpdateByteMatchSetRequest.Builder toByteMatchSetUpdateRequest(boolean isDelete) {
+    protected UpdateByteMatchSetRequest.Builder toByteMatchSetUpdateRequest(List<? extends ByteMatchTupleResource> tuples, boolean isDelete) {
         ByteMatchSetResource parent = (ByteMatchSetResource) parent();
 
-        ByteMatchSetUpdate byteMatchSetUpdate = ByteMatchSetUpdate.builder()
-            .action(!isDelete ? ChangeAction.INSERT : ChangeAction.DELETE)
-            .byteMatchTuple(toByteMatchTuple())
-            .build();
+        List<ByteMatchSetUpdate> byteMatchSetUpdates = new ArrayList<>();
+
+        for (ByteMatchTupleResource tuple : tuples) {
+            byteMatchSetUpdates.add(ByteMatchSetUpdate.builder()
+                .action(!isDelete ? ChangeAction.INSERT : ChangeAction.DELETE)
+                .byteMatchTuple(tuple.toByteMatchTuple())
+                .build());
+        }
 
         return UpdateByteMatchSetRequest.builder()
             .byteMatchSetId(parent.getId())
-            .updates(byteMatchSetUpdate);
+            .updates(byteMatchSetUpdates);
     }
 }
@@ -32,7 +32,9 @@ import software.amazon.awssdk.services.waf.model.UpdateIpSetRequest;
 
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -78,7 +80,7 @@ public abstract class IpSetDescriptorResource extends AbstractWafResource implem
 
     @Override
     public void create(GyroUI ui, State state) {
-        saveIpSetDescriptor(toIpSetDescriptor(), false);
+        saveIpSetDescriptor(false);
     }
 
     @Override
@@ -88,7 +90,7 @@ public abstract class IpSetDescriptorResource extends AbstractWafResource implem
 
     @Override
     public void delete(GyroUI ui, State state) {
-        saveIpSetDescriptor(toIpSetDescriptor(), true);
+        saveIpSetDescriptor(true);
 
     }
 
@@ -97,7 +99,7 @@ public abstract class IpSetDescriptorResource extends AbstractWafResource implem
         return String.format("%s %s", getType(), getValue());
     }
 
-    protected abstract void saveIpSetDescriptor(IPSetDescriptor ipSetDescriptor, boolean isDelete);
+    protected abstract void saveIpSetDescriptor(boolean isDelete);
 
     private IPSetDescriptor toIpSetDescriptor() {
         return IPSetDescriptor.builder()
@@ -106,17 +108,24 @@ public abstract class IpSetDescriptorResource extends AbstractWafResource implem
             .build();
     }
 
-    protected UpdateIpSetRequest.Builder toUpdateIpSetRequest(IPSetDescriptor ipSetDescriptor, boolean isDelete) {
+    protected UpdateIpSetRequest.Builder toUpdateIpSetRequest(
+        List<? extends IpSetDescriptorResource> ipSetDescriptors,
+        boolean isDelete) {
+
         IpSetResource parent = (IpSetResource) parent();
 
-        IPSetUpdate ipSetUpdate = IPSetUpdate.builder()
-            .action(!isDelete ? ChangeAction.INSERT : ChangeAction.DELETE)
-            .ipSetDescriptor(ipSetDescriptor)
-            .build();
+        List<IPSetUpdate> ipSetUpdates = new ArrayList<>();
+
+        for (IpSetDescriptorResource ipSetDescriptor : ipSetDescriptors) {
+            ipSetUpdates.add(IPSetUpdate.builder()
+                .action(!isDelete ? ChangeAction.INSERT : ChangeAction.DELETE)
+                .ipSetDescriptor(ipSetDescriptor.toIpSetDescriptor())
+                .build());
+        }
 
         return UpdateIpSetRequest.builder()
             .ipSetId(parent.getId())
-            .updates(ipSetUpdate);
+            .updates(ipSetUpdates);
     }
 
     private String getCidrValue() {
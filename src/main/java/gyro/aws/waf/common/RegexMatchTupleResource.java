@@ -28,6 +28,7 @@ import software.amazon.awssdk.services.waf.model.RegexMatchSetUpdate;
 import software.amazon.awssdk.services.waf.model.RegexMatchTuple;
 import software.amazon.awssdk.services.waf.model.UpdateRegexMatchSetRequest;
 
+import java.util.List;
 import java.util.Set;
 
 public abstract class RegexMatchTupleResource extends AbstractWafResource implements Copyable<RegexMatchTuple> {
@@ -126,7 +127,7 @@ public abstract class RegexMatchTupleResource extends AbstractWafResource implem
         return sb.toString();
     }
 
-    private RegexMatchTuple toRegexMatchTuple() {
+    protected RegexMatchTuple toRegexMatchTuple() {
         return RegexMatchTuple.builder()
             .fieldToMatch(getFieldToMatch().toFieldToMatch())
             .regexPatternSetId(getRegexPatternSet().getRegexPatternSetId())
@@ -136,16 +137,18 @@ public abstract class RegexMatchTupleResource extends AbstractWafResource implem
 
     protected abstract void saveRegexMatchTuple(RegexMatchTuple regexMatchTuple, boolean isDelete);
 
-    protected UpdateRegexMatchSetRequest.Builder toUpdateRegexMatchSetRequest(RegexMatchTuple regexMatchTuple, boolean isDelete) {
-        RegexMatchSetResource parent = (RegexMatchSetResource) parent();
-
-        RegexMatchSetUpdate regexMatchSetUpdate = RegexMatchSetUpdate.builder()
+    protected RegexMatchSetUpdate toRegexMatchSetUpdate(RegexMatchTuple regexMatchTuple, boolean isDelete) {
+        return RegexMatchSetUpdate.builder()
             .action(!isDelete ? ChangeAction.INSERT : ChangeAction.DELETE)
             .regexMatchTuple(regexMatchTuple)
             .build();
+    }
+
+    protected UpdateRegexMatchSetRequest.Builder toUpdateRegexMatchSetRequest(List<RegexMatchSetUpdate> regexMatchSetUpdates) {
+        RegexMatchSetResource parent = (RegexMatchSetResource) parent();
 
         return UpdateRegexMatchSetRequest.builder()
             .regexMatchSetId(parent.getId())
-            .updates(regexMatchSetUpdate);
+            .updates(regexMatchSetUpdates);
     }
 }
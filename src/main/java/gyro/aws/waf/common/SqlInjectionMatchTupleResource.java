@@ -28,6 +28,8 @@ import software.amazon.awssdk.services.waf.model.SqlInjectionMatchSetUpdate;
 import software.amazon.awssdk.services.waf.model.SqlInjectionMatchTuple;
 import software.amazon.awssdk.services.waf.model.UpdateSqlInjectionMatchSetRequest;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 public abstract class SqlInjectionMatchTupleResource extends AbstractWafResource implements Copyable<SqlInjectionMatchTuple> {
@@ -118,16 +120,20 @@ public abstract class SqlInjectionMatchTupleResource extends AbstractWafResource
             .build();
     }
 
-    protected UpdateSqlInjectionMatchSetRequest.Builder toUpdateSqlInjectionMatchSetRequest(boolean isDelete) {
+    protected UpdateSqlInjectionMatchSetRequest.Builder toUpdateSqlInjectionMatchSetRequest(List<? extends SqlInjectionMatchTupleResource> tuples, boolean isDelete) {
         SqlInjectionMatchSetResource parent = (SqlInjectionMatchSetResource) parent();
 
-        SqlInjectionMatchSetUpdate sqlInjectionMatchSetUpdate = SqlInjectionMatchSetUpdate.builder()
-            .action(!isDelete ? ChangeAction.INSERT : ChangeAction.DELETE)
-            .sqlInjectionMatchTuple(toSqlInjectionMatchTuple())
-            .build();
+        List<SqlInjectionMatchSetUpdate> sqlInjectionMatchSetUpdates = new ArrayList<>();
+
+        for (SqlInjectionMatchTupleResource tuple : tuples) {
+            sqlInjectionMatchSetUpdates.add(SqlInjectionMatchSetUpdate.builder()
+                .action(!isDelete ? ChangeAction.INSERT : ChangeAction.DELETE)
+                .sqlInjectionMatchTuple(tuple.toSqlInjectionMatchTuple())
+                .build());
+        }
 
         return UpdateSqlInjectionMatchSetRequest.builder()
             .sqlInjectionMatchSetId(parent.getId())
-            .updates(sqlInjectionMatchSetUpdate);
+            .updates(sqlInjectionMatchSetUpdates);
     }
 }
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026, Brightspot.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package gyro.aws.waf.common;
+
+import gyro.aws.SiblingChanges;
+import gyro.core.diff.Create;
+import gyro.core.diff.Delete;
+import gyro.core.resource.Resource;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Groups the inserts or deletes of the entries in one WAF Classic condition set, such as ip set descriptors or match
+ * tuples, into update calls of up to {@link #MAX_UPDATES} updates, each sent under a single change token. See
+ * {@link SiblingChanges}.
+ */
+public final class WafUpdateBatches {
+
+    public static final int MAX_UPDATES = 1000;
+
+    private WafUpdateBatches() {
+    }
+
+    /**
+     * Saves the entry along with its siblings that are being created, or deleted if {@code isDelete} is set. When a
+     * combined update fails, the entries in it are left to be saved one at a time so that each reports its own error.
+     */
+    public static <T extends Resource> void save(
+        T resource,
+        Collection<? extends T> siblings,
+        boolean isDelete,
+        Consumer<List<T>> save) {
+
+        SiblingChanges.send(
+            resource,
+            siblings.stream(),
+            isDelete ? Delete.class::isInstance : Create.class::isInstance,
+            MAX_UPDATES,
+            save);
+    }
+}
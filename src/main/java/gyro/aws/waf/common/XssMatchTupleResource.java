@@ -28,6 +28,8 @@ import software.amazon.awssdk.services.waf.model.UpdateXssMatchSetRequest;
 import software.amazon.awssdk.services.waf.model.XssMatchSetUpdate;
 import software.amazon.awssdk.services.waf.model.XssMatchTuple;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 public abstract class XssMatchTupleResource extends AbstractWafResource implements Copyable<XssMatchTuple> {
@@ -118,16 +120,20 @@ public abstract class XssMatchTupleResource extends AbstractWafResource implemen
             .build();
     }
 
-    protected UpdateXssMatchSetRequest.Builder toUpdateXssMatchSetRequest(boolean isDelete) {
+    protected UpdateXssMatchSetRequest.Builder toUpdateXssMatchSetRequest(List<? extends XssMatchTupleResource> tuples, boolean isDelete) {
         XssMatchSetResource parent = (XssMatchSetResource) parent();
 
-        XssMatchSetUpdate xssMatchSetUpdate = XssMatchSetUpdate.builder()
-            .action(!isDelete ? ChangeAction.INSERT : ChangeAction.DELETE)
-            .xssMatchTuple(toXssMatchTuple())
-            .build();
+        List<XssMatchSetUpdate> xssMatchSetUpdates = new ArrayList<>();
+
+        for (XssMatchTupleResource tuple : tuples) {
+            xssMatchSetUpdates.add(XssMatchSetUpdate.builder()
+                .action(!isDelete ? ChangeAction.INSERT : ChangeAction.DELETE)
+                .xssMatchTuple(tuple.toXssMatchTuple())
+                .build());
+        }
 
         return UpdateXssMatchSetRequest.builder()
             .xssMatchSetId(parent.getId())
-            .updates(xssMatchSetUpdate);
+            .updates(xssMatchSetUpdates);
     }
 }
@@ -16,39 +16,61 @@
 
 package gyro.aws.waf.global;
 
+import gyro.aws.waf.common.WafUpdateBatches;
 import software.amazon.awssdk.services.waf.WafClient;
 import software.amazon.awssdk.services.waf.model.RegexMatchSet;
+import software.amazon.awssdk.services.waf.model.RegexMatchSetUpdate;
 import software.amazon.awssdk.services.waf.model.RegexMatchTuple;
 import software.amazon.awssdk.services.waf.model.WafInvalidOperationException;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
 public class RegexMatchTupleResource extends gyro.aws.waf.common.RegexMatchTupleResource {
     @Override
     protected void saveRegexMatchTuple(RegexMatchTuple regexMatchTuple, boolean isDelete) {
         WafClient client = getGlobalClient();
+        RegexMatchSetResource parent = (RegexMatchSetResource) parent();
 
-        // Handle if replacing regex match tuple.
+        // Handle if replacing regex match tuple, removing the old one under the same change token.
         if (!isDelete) {
-            RegexMatchSetResource parent = (RegexMatchSetResource) parent();
-
             RegexMatchSet regexMatchSet = parent.getRegexMatchSet(client);
+            List<RegexMatchSetUpdate> regexMatchSetUpdates = new ArrayList<>();
 
             if (!regexMatchSet.regexMatchTuples().isEmpty()) {
-                client.updateRegexMatchSet(toUpdateRegexMatchSetRequest(regexMatchSet.regexMatchTuples().get(0), true)
-                    .changeToken(client.getChangeToken().changeToken())
-                    .build()
-                );
+                RegexMatchTuple existingRegexMatchTuple = regexMatchSet.regexMatchTuples().get(0);
+
+                if (existingRegexMatchTuple.equals(regexMatchTuple)) {
+                    return;
+                }
+
+                regexMatchSetUpdates.add(toRegexMatchSetUpdate(existingRegexMatchTuple, true));
             }
-        }
 
-        try {
-            client.updateRegexMatchSet(toUpdateRegexMatchSetRequest(regexMatchTuple, isDelete)
+            regexMatchSetUpdates.add(toRegexMatchSetUpdate(regexMatchTuple, false));
+
+            client.updateRegexMatchSet(toUpdateRegexMatchSetRequest(regexMatchSetUpdates)
                 .changeToken(client.getChangeToken().changeToken())
                 .build()
             );
-        } catch (WafInvalidOperationException ex) {
-            if (!isDelete || !ex.awsErrorDetails().errorCode().equals("WAFInvalidOperationException")) {
-                throw ex;
-            }
+
+            return;
         }
+
+        WafUpdateBatches.save(this, parent.getRegexMatchTuple(), true, tuples -> {
+            try {
+                client.updateRegexMatchSet(toUpdateRegexMatchSetRequest(tuples.stream()
+                    .map(o -> toRegexMatchSetUpdate(o.toRegexMatchTuple(), true))
+                    .collect(Collectors.toList()))
+                    .changeToken(client.getChangeToken().changeToken())
+                    .build()
+                );
+            } catch (WafInvalidOperationException ex) {
+                if (tuples.size() > 1 || !ex.awsErrorDetails().errorCode().equals("WAFInvalidOperationException")) {
+                    throw ex;
+                }
+            }
+        });
     }
 }
@@ -16,11 +16,14 @@
 
 package gyro.aws.waf.global;
 
+import gyro.aws.waf.common.WafUpdateBatches;
 import software.amazon.awssdk.services.waf.WafClient;
 import software.amazon.awssdk.services.waf.model.SqlInjectionMatchSet;
 import software.amazon.awssdk.services.waf.model.WafInvalidOperationException;
 import software.amazon.awssdk.services.waf.model.WafLimitsExceededException;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -29,24 +32,32 @@ public class SqlInjectionMatchTupleResource extends gyro.aws.waf.common.SqlInjec
     protected void saveSqlInjectionMatchTuple(boolean isDelete) {
         WafClient client = getGlobalClient();
 
-        try {
-            saveTuple(client, isDelete);
-        } catch (WafLimitsExceededException ex) {
-            handleLimit(client);
+        SqlInjectionMatchSetResource parent = (SqlInjectionMatchSetResource) parent();
 
-            saveTuple(client, isDelete);
-        }
+        WafUpdateBatches.save(this, parent.getSqlInjectionMatchTuple(), isDelete, tuples -> {
+            try {
+                saveTuples(client, tuples, isDelete);
+            } catch (WafLimitsExceededException ex) {
+                if (tuples.size() > 1) {
+                    throw ex;
+                }
+
+                handleLimit(client);
+
+                saveTuples(client, tuples, isDelete);
+            }
+        });
     }
 
-    private void saveTuple(WafClient client, boolean isDelete) {
+    private void saveTuples(WafClient client, List<SqlInjectionMatchTupleResource> tuples, boolean isDelete) {
         try {
             client.updateSqlInjectionMatchSet(
-                toUpdateSqlInjectionMatchSetRequest(isDelete)
+                toUpdateSqlInjectionMatchSetRequest(tuples, isDelete)
                     .changeToken(client.getChangeToken().changeToken())
                     .build()
             );
         } catch (WafInvalidOperationException ex) {
-            if (!isDelete || !ex.awsErrorDetails().errorCode().equals("WAFInvalidOperationException")) {
+            if (!isDelete || tuples.size() > 1 || !ex.awsErrorDetails().errorCode().equals("WAFInvalidOperationException")) {
                 throw ex;
             }
         }
@@ -66,7 +77,7 @@ public class SqlInjectionMatchTupleResource extends gyro.aws.waf.common.SqlInjec
         SqlInjectionMatchTupleResource sqlInjectionMatchTupleResource = sqlInjectionMatchSetResource.getSqlInjectionMatchTuple().stream().filter(o -> !pendingSqlInjectionMatchTupleKeys.contains(o.primaryKey())).findFirst().orElse(null);
 
         if (sqlInjectionMatchTupleResource != null) {
-            sqlInjectionMatchTupleResource.saveTuple(client, true);
+            sqlInjectionMatchTupleResource.saveTuples(client, Collections.singletonList(sqlInjectionMatchTupleResource), true);
         }
     }
 }
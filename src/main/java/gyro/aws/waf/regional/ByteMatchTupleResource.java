@@ -16,11 +16,14 @@
 
 package gyro.aws.waf.regional;
 
+import gyro.aws.waf.common.WafUpdateBatches;
 import software.amazon.awssdk.services.waf.model.ByteMatchSet;
 import software.amazon.awssdk.services.waf.model.WafInvalidOperationException;
 import software.amazon.awssdk.services.waf.model.WafLimitsExceededException;
 import software.amazon.awssdk.services.waf.regional.WafRegionalClient;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -29,24 +32,32 @@ public class ByteMatchTupleResource extends gyro.aws.waf.common.ByteMatchTupleRe
     protected void saveByteMatchTuple(boolean isDelete) {
         WafRegionalClient client = getRegionalClient();
 
-        try {
-            saveTuple(client, isDelete);
-        } catch (WafLimitsExceededException ex) {
-            handleLimit(client);
+        ByteMatchSetResource parent = (ByteMatchSetResource) parent();
 
-            saveTuple(client, isDelete);
-        }
+        WafUpdateBatches.save(this, parent.getByteMatchTuple(), isDelete, tuples -> {
+            try {
+                saveTuples(client, tuples, isDelete);
+            } catch (WafLimitsExceededException ex) {
+                if (tuples.size() > 1) {
+                    throw ex;
+                }
+
+                handleLimit(client);
+
+                saveTuples(client, tuples, isDelete);
+            }
+        });
     }
 
-    private void saveTuple(WafRegionalClient client, boolean isDelete) {
+    private void saveTuples(WafRegionalClient client, List<ByteMatchTupleResource> tuples, boolean isDelete) {
         try {
             client.updateByteMatchSet(
-                toByteMatchSetUpdateRequest(isDelete)
+                toByteMatchSetUpdateRequest(tuples, isDelete)
                     .changeToken(client.getChangeToken().changeToken())
                     .build()
             );
         } catch (WafInvalidOperationException ex) {
-            if (!isDelete || !ex.awsErrorDetails().errorCode().equals("WAFInvalidOperationException")) {
+            if (!isDelete || tuples.size() > 1 || !ex.awsErrorDetails().errorCode().equals("WAFInvalidOperationException")) {
                 throw ex;
             }
         }
@@ -66,7 +77,7 @@ public class ByteMatchTupleResource extends gyro.aws.waf.common.ByteMatchTupleRe
         ByteMatchTupleResource byteMatchTupleResource = byteMatchSetResource.getByteMatchTuple().stream().filter(o -> !pendingByteMatchTupleKeys.contains(o.primaryKey())).findFirst().orElse(null);
 
         if (byteMatchTupleResource != null) {
-            byteMatchTupleResource.saveTuple(client, true);
+            byteMatchTupleResource.saveTuples(client, Collections.singletonList(byteMatchTupleResource), true);
         }
     }
 }
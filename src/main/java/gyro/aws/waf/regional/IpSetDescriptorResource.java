@@ -16,17 +16,20 @@
 
 package gyro.aws.waf.regional;
 
-import software.amazon.awssdk.services.waf.model.IPSetDescriptor;
+import gyro.aws.waf.common.WafUpdateBatches;
 import software.amazon.awssdk.services.waf.regional.WafRegionalClient;
 
 public class IpSetDescriptorResource extends gyro.aws.waf.common.IpSetDescriptorResource {
     @Override
-    protected void saveIpSetDescriptor(IPSetDescriptor ipSetDescriptor, boolean isDelete) {
+    protected void saveIpSetDescriptor(boolean isDelete) {
         WafRegionalClient client = getRegionalClient();
+        IpSetResource parent = (IpSetResource) parent();
 
-        client.updateIPSet(toUpdateIpSetRequest(ipSetDescriptor, isDelete)
-            .changeToken(client.getChangeToken().changeToken())
-            .build()
+        WafUpdateBatches.save(this, parent.getIpSetDescriptor(), isDelete, ipSetDescriptors ->
+            client.updateIPSet(toUpdateIpSetRequest(ipSetDescriptors, isDelete)
+                .changeToken(client.getChangeToken().changeToken())
+                .build()
+            )
         );
     }
 }